@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("application")
     id("jacoco")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 application {
@@ -49,4 +50,15 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    benchmarkMode.set(listOf("avgt", "sample"))
+    timeUnit.set("ns")
+    profilers.set(listOf("gc"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
 }
\ No newline at end of file
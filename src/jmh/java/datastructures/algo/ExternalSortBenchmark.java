@@ -0,0 +1,88 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * benchmarks {@link ExternalSort} on multi-GB files of random longs. every invocation sorts the whole file,
+ * so expect each op to take tens of seconds; the files are written to the default temp directory.
+ */
+@State(Scope.Benchmark)
+public class ExternalSortBenchmark{
+
+    @Param({"1024", "4096"})
+    private int sizeMb;
+
+    @Param({"4194304", "16777216"})
+    private int runSize;
+
+    @Param({"16", "64"})
+    private int fanIn;
+
+    private Path dir;
+    private Path input;
+    private Path output;
+
+    /**
+     * write sizeMb of random longs to the input file
+     *
+     * @throws IOException if writing fails
+     */
+    @Setup(Level.Trial)
+    public void generate() throws IOException{
+        this.dir = Files.createTempDirectory("external-sort-bench");
+        this.input = this.dir.resolve("input.bin");
+        this.output = this.dir.resolve("output.bin");
+        Random rand = new Random(12345);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try(FileChannel channel = FileChannel.open(this.input, StandardOpenOption.CREATE, StandardOpenOption.WRITE)){
+            for(long written = 0; written < (long) this.sizeMb << 20; written += buffer.capacity()){
+                buffer.clear();
+                while(buffer.hasRemaining()){
+                    buffer.putLong(rand.nextLong());
+                }
+                buffer.flip();
+                while(buffer.hasRemaining()){
+                    channel.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * remove the input and output files
+     *
+     * @throws IOException if deleting fails
+     */
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException{
+        Files.deleteIfExists(this.input);
+        Files.deleteIfExists(this.output);
+        Files.deleteIfExists(this.dir);
+    }
+
+    /**
+     * sort the input file into the output file
+     *
+     * @return the output file
+     * @throws IOException if sorting fails
+     */
+    @Benchmark
+    public Path sort() throws IOException{
+        new ExternalSort(this.runSize, this.fanIn, 1 << 20, this.dir).sort(this.input, this.output);
+        return this.output;
+    }
+}
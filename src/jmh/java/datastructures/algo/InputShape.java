@@ -0,0 +1,56 @@
+package datastructures.algo;
+
+import datastructures.util.Generator;
+
+import java.util.ArrayList;
+
+/**
+ * represents the shapes of input generated for sort benchmarks
+ */
+enum InputShape{
+
+    /**
+     * random integers within [0, n)
+     */
+    RANDOM,
+
+    /**
+     * ordered integers with about 10% random swaps
+     */
+    NEARLY_ORDERED,
+
+    /**
+     * ordered integers
+     */
+    ORDERED,
+
+    /**
+     * random integers within [0, 100), so most keys are duplicates
+     */
+    FEW_UNIQUE;
+
+    /**
+     * generate an array of the given size in this shape
+     *
+     * @param n size of array
+     * @return generated array
+     */
+    ArrayList<Integer> generate(int n){
+        return switch(this){
+            case RANDOM -> Generator.randomIntegerArray(n);
+            case NEARLY_ORDERED -> Generator.nearlyOrderedArray(n);
+            case ORDERED -> Generator.orderedArray(n);
+            case FEW_UNIQUE -> Generator.randomIntegerArray(n, 0, 100);
+        };
+    }
+
+    /**
+     * generate a primitive int array of the given size in this shape
+     *
+     * @param n size of array
+     * @return generated array
+     */
+    int[] generateInts(int n){
+        return this.generate(n).stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,87 @@
+package datastructures.algo;
+
+import datastructures.ds.graph.SparseGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * benchmarks vertices visited per second by {@link Search#parallelDfs(datastructures.ds.graph.Graph, java.util.function.Consumer, int)}
+ * on a random directed million-vertex SparseGraph at different worker counts, against the sequential dfs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelDfsBenchmark{
+
+    /**
+     * number of vertices, also the number of visits per invocation
+     */
+    private static final int V = 1000000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int workers;
+
+    /**
+     * average out degree of a vertex
+     */
+    @Param({"4"})
+    private int degree;
+
+    private SparseGraph<Integer> graph;
+
+    /**
+     * build the graph once per trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        List<Integer> vertices = new ArrayList<>(V);
+        for(int i = 0; i < V; i++){
+            vertices.add(i);
+        }
+        this.graph = new SparseGraph<>(vertices, true);
+        Random random = new Random(42);
+        for(long i = 0; i < (long) V * this.degree; i++){
+            this.graph.addEdge(random.nextInt(V), random.nextInt(V));
+        }
+    }
+
+    /**
+     * traverse the graph with the work-stealing parallel dfs
+     *
+     * @return number of visited vertices
+     */
+    @Benchmark
+    @OperationsPerInvocation(V)
+    public long parallelDfs(){
+        LongAdder visited = new LongAdder();
+        Search.parallelDfs(this.graph, v -> visited.increment(), this.workers);
+        return visited.sum();
+    }
+
+    /**
+     * traverse the graph with the sequential dfs, independent of workers
+     *
+     * @return number of visited vertices
+     */
+    @Benchmark
+    @OperationsPerInvocation(V)
+    public long dfs(){
+        LongAdder visited = new LongAdder();
+        Search.dfs(this.graph, v -> visited.increment());
+        return visited.sum();
+    }
+}
@@ -0,0 +1,93 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * benchmarks how {@link Sort#parallelMergeSort(int[], ForkJoinPool)} scales with the size of its pool.
+ * threads = 1 doubles as the fork/join overhead baseline against the sequential mergeSort benchmark.
+ */
+@State(Scope.Thread)
+public class ParallelMergeSortBenchmark{
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    @Param({"1000000", "10000000"})
+    private int n;
+
+    /**
+     * the pool sized by threads
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * the input generated once per trial
+     */
+    private int[] source;
+
+    /**
+     * fresh copies of source sorted by each invocation
+     */
+    private int[] primitive;
+    private ArrayList<Integer> boxed;
+
+    /**
+     * generate the input and start the pool for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        this.source = InputShape.RANDOM.generateInts(this.n);
+        this.pool = new ForkJoinPool(this.threads);
+    }
+
+    /**
+     * shut down the pool
+     */
+    @TearDown(Level.Trial)
+    public void shutdown(){
+        this.pool.shutdown();
+    }
+
+    /**
+     * restore the unsorted input before each invocation
+     */
+    @Setup(Level.Invocation)
+    public void copy(){
+        this.primitive = this.source.clone();
+        this.boxed = new ArrayList<>(this.n);
+        for(int v : this.source){
+            this.boxed.add(v);
+        }
+    }
+
+    /**
+     * sort the input as an int[]
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] primitive(){
+        Sort.parallelMergeSort(this.primitive, this.pool);
+        return this.primitive;
+    }
+
+    /**
+     * sort the input as an ArrayList of Integer
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<Integer> boxed(){
+        Sort.parallelMergeSort(this.boxed, this.pool);
+        return this.boxed;
+    }
+}
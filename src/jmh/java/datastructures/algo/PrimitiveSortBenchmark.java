@@ -0,0 +1,91 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+
+/**
+ * benchmarks the primitive int[] overloads of {@link Sort} against the boxed List versions on the same input
+ */
+@State(Scope.Thread)
+public class PrimitiveSortBenchmark{
+
+    @Param({"mergeSort", "mergeSortBottomUp", "quickSort", "heapSort"})
+    private String algorithm;
+
+    @Param({"RANDOM", "NEARLY_ORDERED"})
+    private InputShape shape;
+
+    @Param({"1000", "100000", "10000000"})
+    private int n;
+
+    /**
+     * the input generated once per trial
+     */
+    private int[] source;
+
+    /**
+     * fresh copies of source sorted by each invocation
+     */
+    private int[] primitive;
+    private ArrayList<Integer> boxed;
+
+    /**
+     * generate the input for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        this.source = this.shape.generateInts(this.n);
+    }
+
+    /**
+     * restore the unsorted input before each invocation
+     */
+    @Setup(Level.Invocation)
+    public void copy(){
+        this.primitive = this.source.clone();
+        this.boxed = new ArrayList<>(this.n);
+        for(int v : this.source){
+            this.boxed.add(v);
+        }
+    }
+
+    /**
+     * sort the input as an int[]
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] primitive(){
+        switch(this.algorithm){
+            case "mergeSort" -> Sort.mergeSort(this.primitive);
+            case "mergeSortBottomUp" -> Sort.mergeSortBottomUp(this.primitive);
+            case "quickSort" -> Sort.quickSort(this.primitive);
+            case "heapSort" -> Sort.heapSort(this.primitive);
+            default -> throw new IllegalArgumentException("unknown algorithm: " + this.algorithm);
+        }
+        return this.primitive;
+    }
+
+    /**
+     * sort the input as an ArrayList of Integer
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<Integer> boxed(){
+        switch(this.algorithm){
+            case "mergeSort" -> Sort.mergeSort(this.boxed);
+            case "mergeSortBottomUp" -> Sort.mergeSortBottomUp(this.boxed);
+            case "quickSort" -> Sort.quickSort(this.boxed);
+            case "heapSort" -> Sort.heapSort(this.boxed);
+            default -> throw new IllegalArgumentException("unknown algorithm: " + this.algorithm);
+        }
+        return this.boxed;
+    }
+}
@@ -0,0 +1,68 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+
+/**
+ * benchmarks the O(n^2) sorts of {@link Sort}. sizes stop at 1e5 since a single
+ * invocation at 1e7 would take hours.
+ */
+@State(Scope.Thread)
+public class QuadraticSortBenchmark{
+
+    @Param({"selectionSort", "insertionSort"})
+    private String algorithm;
+
+    @Param({"RANDOM", "NEARLY_ORDERED", "ORDERED"})
+    private InputShape shape;
+
+    @Param({"1000", "10000", "100000"})
+    private int n;
+
+    /**
+     * the input generated once per trial
+     */
+    private ArrayList<Integer> source;
+
+    /**
+     * a fresh copy of source sorted by each invocation
+     */
+    private ArrayList<Integer> arr;
+
+    /**
+     * generate the input for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        this.source = this.shape.generate(this.n);
+    }
+
+    /**
+     * restore the unsorted input before each invocation
+     */
+    @Setup(Level.Invocation)
+    public void copy(){
+        this.arr = new ArrayList<>(this.source);
+    }
+
+    /**
+     * sort the input with the selected algorithm
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<Integer> sort(){
+        switch(this.algorithm){
+            case "selectionSort" -> Sort.selectionSort(this.arr);
+            case "insertionSort" -> Sort.insertionSort(this.arr);
+            default -> throw new IllegalArgumentException("unknown algorithm: " + this.algorithm);
+        }
+        return this.arr;
+    }
+}
@@ -0,0 +1,104 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * benchmarks the radix sorts of {@link Sort} against the comparison sorts on the same input
+ */
+@State(Scope.Thread)
+public class RadixSortBenchmark{
+
+    @Param({"1000", "100000", "10000000"})
+    private int n;
+
+    /**
+     * the input generated once per trial
+     */
+    private int[] sourceInts;
+    private ArrayList<String> sourceWords;
+
+    /**
+     * fresh copies of the input sorted by each invocation
+     */
+    private int[] ints;
+    private ArrayList<String> words;
+
+    /**
+     * generate random ids, half of them negative, and random lowercase words of 1 to 10 letters
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random rand = new Random(12345);
+        this.sourceInts = new int[this.n];
+        this.sourceWords = new ArrayList<>(this.n);
+        for(int i = 0; i < this.n; i++){
+            this.sourceInts[i] = rand.nextInt();
+            StringBuilder builder = new StringBuilder();
+            for(int j = rand.nextInt(10); j >= 0; j--){
+                builder.append((char) ('a' + rand.nextInt(26)));
+            }
+            this.sourceWords.add(builder.toString());
+        }
+    }
+
+    /**
+     * restore the unsorted input before each invocation
+     */
+    @Setup(Level.Invocation)
+    public void copy(){
+        this.ints = this.sourceInts.clone();
+        this.words = new ArrayList<>(this.sourceWords);
+    }
+
+    /**
+     * LSD radix sort on int[]
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] radixSortInts(){
+        Sort.radixSort(this.ints);
+        return this.ints;
+    }
+
+    /**
+     * quick sort on int[] as the comparison baseline
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] quickSortInts(){
+        Sort.quickSort(this.ints);
+        return this.ints;
+    }
+
+    /**
+     * MSD radix sort on strings
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<String> radixSortWords(){
+        Sort.radixSort(this.words);
+        return this.words;
+    }
+
+    /**
+     * merge sort on strings as the comparison baseline
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<String> mergeSortWords(){
+        Sort.mergeSort(this.words);
+        return this.words;
+    }
+}
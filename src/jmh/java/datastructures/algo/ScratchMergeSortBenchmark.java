@@ -0,0 +1,102 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * benchmarks merge sort with a reusable scratch buffer against the allocating mergeSort on many small arrays.
+ * the input is restored inside each benchmark without allocating, so gc.alloc.rate.norm from the gc profiler
+ * is the allocation of the sort itself and should be about 0 B/op for the scratch variants.
+ */
+@State(Scope.Thread)
+public class ScratchMergeSortBenchmark{
+
+    @Param({"16", "256", "4096"})
+    private int n;
+
+    private int[] source;
+    private int[] arr;
+    private int[] scratch;
+    private ArrayList<Integer> boxedSource;
+    private ArrayList<Integer> boxed;
+    private ArrayList<Integer> boxedScratch;
+
+    /**
+     * generate the input and the buffers for this trial
+     */
+    @Setup
+    public void generate(){
+        this.boxedSource = InputShape.RANDOM.generate(this.n);
+        this.boxed = new ArrayList<>(this.boxedSource);
+        this.boxedScratch = new ArrayList<>(this.n);
+        this.source = InputShape.RANDOM.generateInts(this.n);
+        this.arr = new int[this.n];
+        this.scratch = new int[this.n];
+    }
+
+    /**
+     * allocating merge sort on int[]
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] allocating(){
+        System.arraycopy(this.source, 0, this.arr, 0, this.n);
+        Sort.mergeSort(this.arr);
+        return this.arr;
+    }
+
+    /**
+     * merge sort on int[] through a caller-supplied scratch buffer
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] scratch(){
+        System.arraycopy(this.source, 0, this.arr, 0, this.n);
+        Sort.mergeSort(this.arr, this.scratch);
+        return this.arr;
+    }
+
+    /**
+     * merge sort on int[] through the thread-local scratch buffer
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public int[] threadLocal(){
+        System.arraycopy(this.source, 0, this.arr, 0, this.n);
+        Sort.mergeSortThreadLocal(this.arr);
+        return this.arr;
+    }
+
+    /**
+     * allocating merge sort on a list
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<Integer> boxedAllocating(){
+        Collections.copy(this.boxed, this.boxedSource);
+        Sort.mergeSort(this.boxed);
+        return this.boxed;
+    }
+
+    /**
+     * merge sort on a list through a caller-supplied scratch buffer
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<Integer> boxedScratch(){
+        Collections.copy(this.boxed, this.boxedSource);
+        Sort.mergeSort(this.boxed, this.boxedScratch);
+        return this.boxed;
+    }
+}
@@ -0,0 +1,74 @@
+package datastructures.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+
+/**
+ * benchmarks the O(n log n) sorts of {@link Sort} across input shapes and sizes.
+ * run with {@code ./gradlew jmh}; mode, time unit and the gc profiler are configured in the build script.
+ */
+@State(Scope.Thread)
+public class SortBenchmark{
+
+    @Param({"mergeSort", "mergeSortBottomUp", "adaptiveMergeSort",
+            "quickSort", "quickSort3Ways", "quickSortDualPivot", "heapSort"})
+    private String algorithm;
+
+    @Param({"RANDOM", "NEARLY_ORDERED", "ORDERED", "FEW_UNIQUE"})
+    private InputShape shape;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int n;
+
+    /**
+     * the input generated once per trial
+     */
+    private ArrayList<Integer> source;
+
+    /**
+     * a fresh copy of source sorted by each invocation
+     */
+    private ArrayList<Integer> arr;
+
+    /**
+     * generate the input for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        this.source = this.shape.generate(this.n);
+    }
+
+    /**
+     * restore the unsorted input before each invocation
+     */
+    @Setup(Level.Invocation)
+    public void copy(){
+        this.arr = new ArrayList<>(this.source);
+    }
+
+    /**
+     * sort the input with the selected algorithm
+     *
+     * @return the sorted array so the work is not eliminated
+     */
+    @Benchmark
+    public ArrayList<Integer> sort(){
+        switch(this.algorithm){
+            case "mergeSort" -> Sort.mergeSort(this.arr);
+            case "mergeSortBottomUp" -> Sort.mergeSortBottomUp(this.arr);
+            case "adaptiveMergeSort" -> Sort.adaptiveMergeSort(this.arr);
+            case "quickSort" -> Sort.quickSort(this.arr);
+            case "quickSort3Ways" -> Sort.quickSort3Ways(this.arr);
+            case "quickSortDualPivot" -> Sort.quickSortDualPivot(this.arr);
+            case "heapSort" -> Sort.heapSort(this.arr);
+            default -> throw new IllegalArgumentException("unknown algorithm: " + this.algorithm);
+        }
+        return this.arr;
+    }
+}
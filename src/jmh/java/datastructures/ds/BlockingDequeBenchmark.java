@@ -0,0 +1,169 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * benchmarks BlockingDoublyEndedQueue against java.util.concurrent.LinkedBlockingDeque as a bounded buffer.
+ * pingPong measures handoff latency as a round trip between two threads over a pair of DEQs, and
+ * throughput pairs two producers with two consumers taking one element or a batch per lock acquisition.
+ * every blocking call is timed so no thread is left blocked when JMH stops one side of a group first.
+ */
+@State(Scope.Group)
+public class BlockingDequeBenchmark{
+
+    private static final long TIMEOUT_MS = 10;
+
+    @Param({"blocking", "linked"})
+    private String impl;
+
+    @Param({"1024"})
+    private int capacity;
+
+    private final Integer value = 42;
+
+    private BlockingDoublyEndedQueue<Integer> ping;
+    private BlockingDoublyEndedQueue<Integer> pong;
+    private LinkedBlockingDeque<Integer> linkedPing;
+    private LinkedBlockingDeque<Integer> linkedPong;
+
+    /**
+     * create the DEQs shared by each group
+     */
+    @Setup
+    public void setUp(){
+        this.ping = new BlockingDoublyEndedQueue<>(this.capacity);
+        this.pong = new BlockingDoublyEndedQueue<>(this.capacity);
+        this.linkedPing = new LinkedBlockingDeque<>(this.capacity);
+        this.linkedPong = new LinkedBlockingDeque<>(this.capacity);
+    }
+
+    /**
+     * helper method to insert into the selected implementation
+     *
+     * @param first true for the ping DEQ, false for the pong DEQ
+     * @return true if inserted before the timeout
+     * @throws InterruptedException if interrupted
+     */
+    private boolean offer(boolean first) throws InterruptedException{
+        if(this.impl.equals("linked")){
+            return (first ? this.linkedPing : this.linkedPong).offerLast(this.value, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        return (first ? this.ping : this.pong).offerLast(this.value, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * helper method to remove from the selected implementation
+     *
+     * @param first true for the ping DEQ, false for the pong DEQ
+     * @return removed element, or null on timeout
+     * @throws InterruptedException if interrupted
+     */
+    private Integer poll(boolean first) throws InterruptedException{
+        if(this.impl.equals("linked")){
+            return (first ? this.linkedPing : this.linkedPong).pollFirst(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        return (first ? this.ping : this.pong).pollFirst(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * send on ping and wait for the reply on pong
+     *
+     * @return reply
+     * @throws InterruptedException if interrupted
+     */
+    @Benchmark
+    @Group("pingPong")
+    @GroupThreads(1)
+    public Integer serve() throws InterruptedException{
+        this.offer(true);
+        return this.poll(false);
+    }
+
+    /**
+     * wait on ping and reply on pong
+     *
+     * @return received element
+     * @throws InterruptedException if interrupted
+     */
+    @Benchmark
+    @Group("pingPong")
+    @GroupThreads(1)
+    public Integer reply() throws InterruptedException{
+        Integer ret = this.poll(true);
+        this.offer(false);
+        return ret;
+    }
+
+    /**
+     * insert one element
+     *
+     * @return true if inserted
+     * @throws InterruptedException if interrupted
+     */
+    @Benchmark
+    @Group("throughput")
+    @GroupThreads(2)
+    public boolean produce() throws InterruptedException{
+        return this.offer(true);
+    }
+
+    /**
+     * remove one element
+     *
+     * @return removed element
+     * @throws InterruptedException if interrupted
+     */
+    @Benchmark
+    @Group("throughput")
+    @GroupThreads(2)
+    public Integer consume() throws InterruptedException{
+        return this.poll(true);
+    }
+
+    /**
+     * insert one element
+     *
+     * @return true if inserted
+     * @throws InterruptedException if interrupted
+     */
+    @Benchmark
+    @Group("batchThroughput")
+    @GroupThreads(2)
+    public boolean produceForBatch() throws InterruptedException{
+        return this.offer(true);
+    }
+
+    /**
+     * remove up to 64 elements under one lock acquisition
+     *
+     * @return removed elements
+     * @throws InterruptedException if interrupted
+     */
+    @Benchmark
+    @Group("batchThroughput")
+    @GroupThreads(2)
+    public List<Integer> consumeBatch() throws InterruptedException{
+        List<Integer> batch = new ArrayList<>(64);
+        if(this.impl.equals("linked")){
+            Integer first = this.linkedPing.pollFirst(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if(first != null){
+                batch.add(first);
+                this.linkedPing.drainTo(batch, 63);
+            }
+        }else{
+            this.ping.drainTo(batch, 64, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        return batch;
+    }
+}
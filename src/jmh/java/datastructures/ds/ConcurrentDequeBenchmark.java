@@ -0,0 +1,84 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * benchmarks ConcurrentDoublyEndedQueue against a DoublyEndedQueue guarded by synchronized as a work queue
+ * shared by all benchmark threads. each op inserts at the end and removes from the start (fifo) or the end
+ * (lifo), so the DEQ stays at its prefilled size. scale the thread count with {@code -t}, e.g. 1, 4, 16.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class ConcurrentDequeBenchmark{
+
+    @Param({"synchronized", "lockFree"})
+    private String impl;
+
+    /**
+     * number of elements in the DEQ before the benchmark starts
+     */
+    @Param({"1000"})
+    private int prefill;
+
+    private ConcurrentDoublyEndedQueue<Integer> lockFree;
+
+    private DoublyEndedQueue<Integer> locked;
+
+    private final Integer value = 42;
+
+    /**
+     * create and prefill the DEQ under test
+     */
+    @Setup
+    public void setUp(){
+        this.lockFree = new ConcurrentDoublyEndedQueue<>();
+        this.locked = new DoublyEndedQueue<>();
+        for(int i = 0; i < this.prefill; i++){
+            this.lockFree.insertLast(i);
+            this.locked.insertLast(i);
+        }
+    }
+
+    /**
+     * insert at the end and remove from the start
+     *
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer fifo(){
+        if(this.impl.equals("lockFree")){
+            this.lockFree.insertLast(this.value);
+            return this.lockFree.pollFirst();
+        }
+        synchronized(this.locked){
+            this.locked.insertLast(this.value);
+        }
+        synchronized(this.locked){
+            return this.locked.removeFirst();
+        }
+    }
+
+    /**
+     * insert at the end and remove from the end
+     *
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer lifo(){
+        if(this.impl.equals("lockFree")){
+            this.lockFree.insertLast(this.value);
+            return this.lockFree.pollLast();
+        }
+        synchronized(this.locked){
+            this.locked.insertLast(this.value);
+        }
+        synchronized(this.locked){
+            return this.locked.removeLast();
+        }
+    }
+}
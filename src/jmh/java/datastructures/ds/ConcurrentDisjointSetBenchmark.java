@@ -0,0 +1,142 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * benchmarks ConcurrentDisjointSet against a DisjointSet guarded by synchronized as the connected components of
+ * a stream of random edges fed by all benchmark threads. each op unions one random edge and checks another
+ * random pair. the set is rebuilt every iteration, so it does not collapse into a single component before
+ * measuring. there is one benchmark per thread count from 1 to 64, so a default run gives the whole scaling
+ * curve; filter with a regex such as {@code ConcurrentDisjointSetBenchmark.unionFind(1|8|64)$} to run only
+ * some of them.
+ */
+@State(Scope.Benchmark)
+public class ConcurrentDisjointSetBenchmark{
+
+    @Param({"synchronized", "lockFree"})
+    private String impl;
+
+    @Param({"10000000"})
+    private int n;
+
+    private DisjointSet locked;
+
+    private ConcurrentDisjointSet lockFree;
+
+    /**
+     * create the set under test
+     */
+    @Setup(Level.Iteration)
+    public void setUp(){
+        if(this.impl.equals("lockFree")){
+            this.lockFree = new ConcurrentDisjointSet(this.n);
+        }else{
+            this.locked = new DisjointSet(this.n);
+        }
+    }
+
+    /**
+     * union a random edge and query a random pair
+     *
+     * @return whether the pair is connected
+     */
+    private boolean unionFind(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int p = random.nextInt(this.n);
+        int q = random.nextInt(this.n);
+        int r = random.nextInt(this.n);
+        if(this.impl.equals("lockFree")){
+            this.lockFree.union(p, q);
+            return this.lockFree.isConnected(p, r);
+        }
+        synchronized(this.locked){
+            this.locked.union(p, q);
+            return this.locked.isConnected(p, r);
+        }
+    }
+
+    /**
+     * union and query on 1 thread
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean unionFind1(){
+        return this.unionFind();
+    }
+
+    /**
+     * union and query on 2 threads
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(2)
+    public boolean unionFind2(){
+        return this.unionFind();
+    }
+
+    /**
+     * union and query on 4 threads
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean unionFind4(){
+        return this.unionFind();
+    }
+
+    /**
+     * union and query on 8 threads
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(8)
+    public boolean unionFind8(){
+        return this.unionFind();
+    }
+
+    /**
+     * union and query on 16 threads
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(16)
+    public boolean unionFind16(){
+        return this.unionFind();
+    }
+
+    /**
+     * union and query on 32 threads
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(32)
+    public boolean unionFind32(){
+        return this.unionFind();
+    }
+
+    /**
+     * union and query on 64 threads
+     *
+     * @return whether the pair is connected
+     */
+    @Benchmark
+    @Threads(64)
+    public boolean unionFind64(){
+        return this.unionFind();
+    }
+}
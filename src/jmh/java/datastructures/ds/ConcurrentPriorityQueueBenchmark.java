@@ -0,0 +1,157 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * benchmarks ConcurrentPriorityQueue against a PriorityQueue guarded by synchronized and
+ * java.util.concurrent.PriorityBlockingQueue as a job queue shared by all benchmark threads. each op inserts
+ * a random job and pops one, so the queue stays at its prefilled size. there is one benchmark per thread
+ * count from 1 to 64, so a default run gives the whole scaling curve; filter with a regex such as
+ * {@code ConcurrentPriorityQueueBenchmark.insertPop(1|8|64)$} to run only some of them.
+ */
+@State(Scope.Benchmark)
+public class ConcurrentPriorityQueueBenchmark{
+
+    @Param({"synchronized", "blocking", "multiQueue"})
+    private String impl;
+
+    /**
+     * number of jobs in the queue before the benchmark starts
+     */
+    @Param({"10000"})
+    private int prefill;
+
+    private PriorityQueue<Integer> locked;
+
+    private PriorityBlockingQueue<Integer> blocking;
+
+    private ConcurrentPriorityQueue<Integer> multiQueue;
+
+    /**
+     * create and prefill the queue under test
+     */
+    @Setup
+    public void setUp(){
+        this.locked = new PriorityQueue<>(false);
+        this.blocking = new PriorityBlockingQueue<>();
+        this.multiQueue = new ConcurrentPriorityQueue<>(false);
+        Random random = new Random(42);
+        for(int i = 0; i < this.prefill; i++){
+            int job = random.nextInt();
+            this.locked.insert(job);
+            this.blocking.add(job);
+            this.multiQueue.insert(job);
+        }
+    }
+
+    /**
+     * insert a random job and pop one
+     *
+     * @return the popped job
+     */
+    private Integer insertPop(){
+        Integer job = ThreadLocalRandom.current().nextInt();
+        switch(this.impl){
+            case "blocking" -> {
+                this.blocking.add(job);
+                return this.blocking.poll();
+            }
+            case "multiQueue" -> {
+                this.multiQueue.insert(job);
+                return this.multiQueue.poll();
+            }
+            default -> {
+                synchronized(this.locked){
+                    this.locked.insert(job);
+                    return this.locked.pop();
+                }
+            }
+        }
+    }
+
+    /**
+     * insert and pop on 1 thread
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(1)
+    public Integer insertPop1(){
+        return this.insertPop();
+    }
+
+    /**
+     * insert and pop on 2 threads
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(2)
+    public Integer insertPop2(){
+        return this.insertPop();
+    }
+
+    /**
+     * insert and pop on 4 threads
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer insertPop4(){
+        return this.insertPop();
+    }
+
+    /**
+     * insert and pop on 8 threads
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(8)
+    public Integer insertPop8(){
+        return this.insertPop();
+    }
+
+    /**
+     * insert and pop on 16 threads
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(16)
+    public Integer insertPop16(){
+        return this.insertPop();
+    }
+
+    /**
+     * insert and pop on 32 threads
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(32)
+    public Integer insertPop32(){
+        return this.insertPop();
+    }
+
+    /**
+     * insert and pop on 64 threads
+     *
+     * @return the popped job
+     */
+    @Benchmark
+    @Threads(64)
+    public Integer insertPop64(){
+        return this.insertPop();
+    }
+}
@@ -0,0 +1,103 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * benchmarks the linked DoublyEndedQueue against the array backed ArrayDoublyEndedQueue as a BFS queue
+ * and as a DFS stack. every invocation pushes and pops N elements through a fresh deq, and scores are per
+ * element, so gc.alloc.rate.norm from the gc profiler reads as bytes allocated per element.
+ */
+@State(Scope.Thread)
+public class DequeBenchmark{
+
+    /**
+     * number of elements per invocation
+     */
+    private static final int N = 100000;
+
+    /**
+     * boxed values shared by all benchmarks so boxing is not measured
+     */
+    private final Integer[] values = new Integer[N];
+
+    /**
+     * default constructor, fills values
+     */
+    public DequeBenchmark(){
+        for(int i = 0; i < N; i++){
+            this.values[i] = i;
+        }
+    }
+
+    /**
+     * use the linked deq as a queue
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void linkedFifo(Blackhole bh){
+        DoublyEndedQueue<Integer> deq = new DoublyEndedQueue<>();
+        for(Integer v : this.values){
+            deq.insertLast(v);
+        }
+        while(!deq.isEmpty()){
+            bh.consume(deq.removeFirst());
+        }
+    }
+
+    /**
+     * use the array deq as a queue
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void arrayFifo(Blackhole bh){
+        ArrayDoublyEndedQueue<Integer> deq = new ArrayDoublyEndedQueue<>();
+        for(Integer v : this.values){
+            deq.insertLast(v);
+        }
+        while(!deq.isEmpty()){
+            bh.consume(deq.removeFirst());
+        }
+    }
+
+    /**
+     * use the linked deq as a stack
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void linkedLifo(Blackhole bh){
+        DoublyEndedQueue<Integer> deq = new DoublyEndedQueue<>();
+        for(Integer v : this.values){
+            deq.insertLast(v);
+        }
+        while(!deq.isEmpty()){
+            bh.consume(deq.removeLast());
+        }
+    }
+
+    /**
+     * use the array deq as a stack
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(N)
+    public void arrayLifo(Blackhole bh){
+        ArrayDoublyEndedQueue<Integer> deq = new ArrayDoublyEndedQueue<>();
+        for(Integer v : this.values){
+            deq.insertLast(v);
+        }
+        while(!deq.isEmpty()){
+            bh.consume(deq.removeLast());
+        }
+    }
+}
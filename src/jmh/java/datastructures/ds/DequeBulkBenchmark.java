@@ -0,0 +1,138 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * benchmarks moving a batch between DoublyEndedQueues with the bulk operations against one element at a
+ * time, and summing a DEQ through sequential and parallel streams.
+ */
+@State(Scope.Thread)
+public class DequeBulkBenchmark{
+
+    @Param({"1000", "10000"})
+    private int batch;
+
+    @Param({"1000000"})
+    private int n;
+
+    private List<Integer> elements;
+
+    private DoublyEndedQueue<Integer> source;
+
+    private DoublyEndedQueue<Integer> target;
+
+    private DoublyEndedQueue<Integer> large;
+
+    /**
+     * generate the batch and the large DEQ once per trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        this.elements = new ArrayList<>(this.batch);
+        for(int i = 0; i < this.batch; i++){
+            this.elements.add(i);
+        }
+        List<Integer> all = new ArrayList<>(this.n);
+        for(int i = 0; i < this.n; i++){
+            all.add(i);
+        }
+        this.large = new DoublyEndedQueue<>(all);
+    }
+
+    /**
+     * refill the source DEQ with a batch and empty the target before each invocation
+     */
+    @Setup(Level.Invocation)
+    public void refill(){
+        this.source = new DoublyEndedQueue<>(this.elements);
+        this.target = new DoublyEndedQueue<>();
+    }
+
+    /**
+     * insert a batch one element at a time
+     *
+     * @return target DEQ
+     */
+    @Benchmark
+    public DoublyEndedQueue<Integer> insertLastLoop(){
+        for(Integer e : this.elements){
+            this.target.insertLast(e);
+        }
+        return this.target;
+    }
+
+    /**
+     * insert a batch as a pre-built chain
+     *
+     * @return target DEQ
+     */
+    @Benchmark
+    public DoublyEndedQueue<Integer> insertAllLast(){
+        this.target.insertAllLast(this.elements);
+        return this.target;
+    }
+
+    /**
+     * move a batch to another DEQ one element at a time
+     *
+     * @return target DEQ
+     */
+    @Benchmark
+    public DoublyEndedQueue<Integer> moveLoop(){
+        while(!this.source.isEmpty()){
+            this.target.insertLast(this.source.removeFirst());
+        }
+        return this.target;
+    }
+
+    /**
+     * move a batch to another DEQ by relinking
+     *
+     * @return target DEQ
+     */
+    @Benchmark
+    public DoublyEndedQueue<Integer> concat(){
+        this.target.concat(this.source);
+        return this.target;
+    }
+
+    /**
+     * drain a batch into a list
+     *
+     * @return drained list
+     */
+    @Benchmark
+    public List<Integer> drainTo(){
+        List<Integer> drained = new ArrayList<>(this.batch);
+        this.source.drainTo(drained, this.batch);
+        return drained;
+    }
+
+    /**
+     * sum the large DEQ with a sequential stream
+     *
+     * @return sum
+     */
+    @Benchmark
+    public long streamSum(){
+        return this.large.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * sum the large DEQ with a parallel stream
+     *
+     * @return sum
+     */
+    @Benchmark
+    public long parallelStreamSum(){
+        return this.large.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,87 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * benchmarks positional and value based access of DoublyEndedQueue on a 1M element DEQ.
+ * position is the index as a fraction of size, so 0.9 measures an access near the end
+ * that used to walk 90% of the DEQ from head.
+ */
+@State(Scope.Thread)
+public class DequeIndexBenchmark{
+
+    @Param({"1000000"})
+    private int n;
+
+    @Param({"0.1", "0.5", "0.9"})
+    private double position;
+
+    private DoublyEndedQueue<Integer> deq;
+
+    private int index;
+
+    private Integer value;
+
+    /**
+     * fill the DEQ with 0 to n - 1 once per trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        List<Integer> elements = new ArrayList<>(this.n);
+        for(int i = 0; i < this.n; i++){
+            elements.add(i);
+        }
+        this.deq = new DoublyEndedQueue<>(elements);
+        this.index = (int) (this.n * this.position);
+        this.value = this.index;
+    }
+
+    /**
+     * get the element at index
+     *
+     * @return the element
+     */
+    @Benchmark
+    public Integer get(){
+        return this.deq.get(this.index);
+    }
+
+    /**
+     * set the element at index to itself
+     *
+     * @return the replaced element
+     */
+    @Benchmark
+    public Integer set(){
+        return this.deq.set(this.index, this.value);
+    }
+
+    /**
+     * insert at index from start then remove it again, leaving the DEQ unchanged
+     *
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer insertAndRemoveAt(){
+        this.deq.insertFirst(this.value, this.index);
+        return this.deq.removeAt(this.index);
+    }
+
+    /**
+     * update the element with the value at index to itself, a single scan up to index
+     *
+     * @return true if updated
+     */
+    @Benchmark
+    public boolean update(){
+        return this.deq.update(this.value, this.value);
+    }
+}
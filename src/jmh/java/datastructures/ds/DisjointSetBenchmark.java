@@ -0,0 +1,112 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * benchmarks DisjointSet on n elements by unioning n / 2 random pairs and then checking n / 2 random pairs
+ * for connectivity, either one union at a time or in one unionAll call, and growing a set from empty with
+ * makeSet. unionPoll reads the component count after every batch of a thousand unions, as a job waiting for
+ * the sets to converge would. divide the score by n for the time per operation.
+ */
+@State(Scope.Thread)
+public class DisjointSetBenchmark{
+
+    @Param({"1000000", "10000000"})
+    private int n;
+
+    private int[] pairs;
+
+    private int[] ps;
+
+    private int[] qs;
+
+    /**
+     * generate the pairs for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random random = new Random(42);
+        this.pairs = new int[2 * this.n];
+        for(int i = 0; i < this.pairs.length; i++){
+            this.pairs[i] = random.nextInt(this.n);
+        }
+        this.ps = new int[this.n / 2];
+        this.qs = new int[this.n / 2];
+        for(int i = 0; i < this.n / 2; i++){
+            this.ps[i] = this.pairs[2 * i];
+            this.qs[i] = this.pairs[2 * i + 1];
+        }
+    }
+
+    /**
+     * union the first half of the pairs and query the second half
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void unionFind(Blackhole bh){
+        DisjointSet ds = new DisjointSet(this.n);
+        int half = this.n / 2 * 2;
+        for(int i = 0; i < half; i += 2){
+            ds.union(this.pairs[i], this.pairs[i + 1]);
+        }
+        for(int i = half; i < 2 * half; i += 2){
+            bh.consume(ds.isConnected(this.pairs[i], this.pairs[i + 1]));
+        }
+    }
+
+    /**
+     * union the first half of the pairs in one call and query the second half
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void unionAllFind(Blackhole bh){
+        DisjointSet ds = new DisjointSet(this.n);
+        bh.consume(ds.unionAll(this.ps, this.qs));
+        int half = this.n / 2 * 2;
+        for(int i = half; i < 2 * half; i += 2){
+            bh.consume(ds.isConnected(this.pairs[i], this.pairs[i + 1]));
+        }
+    }
+
+    /**
+     * grow a set from empty with makeSet, unioning as the nodes appear
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void makeSetUnion(Blackhole bh){
+        DisjointSet ds = new DisjointSet();
+        for(int i = 0; i < this.n; i++){
+            int p = ds.makeSet();
+            ds.union(p, this.pairs[i] % (p + 1));
+        }
+        bh.consume(ds.getSize());
+    }
+
+    /**
+     * union the first half of the pairs, polling the component count after every batch
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void unionPoll(Blackhole bh){
+        DisjointSet ds = new DisjointSet(this.n);
+        int half = this.n / 2 * 2;
+        for(int i = 0; i < half; i += 2){
+            ds.union(this.pairs[i], this.pairs[i + 1]);
+            if(i % 2000 == 0){
+                bh.consume(ds.getNumberOfComponents());
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * benchmarks loading a batch of events into a priority queue that already holds n events, one insert at a
+ * time against insertAll, and draining the top k of them with pop against popN.
+ */
+@State(Scope.Thread)
+public class HeapBulkBenchmark{
+
+    @Param({"10000", "1000000"})
+    private int n;
+
+    @Param({"1000", "1000000"})
+    private int batch;
+
+    private ArrayList<Integer> existing;
+
+    private ArrayList<Integer> events;
+
+    private PriorityQueue<Integer> pq;
+
+    /**
+     * generate the events for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random random = new Random(42);
+        this.existing = new ArrayList<>(this.n);
+        for(int i = 0; i < this.n; i++){
+            this.existing.add(random.nextInt());
+        }
+        this.events = new ArrayList<>(this.batch);
+        for(int i = 0; i < this.batch; i++){
+            this.events.add(random.nextInt());
+        }
+    }
+
+    /**
+     * rebuild the priority queue before every invocation, since each one changes it
+     */
+    @Setup(Level.Invocation)
+    public void fill(){
+        this.pq = new PriorityQueue<>(false, this.existing);
+    }
+
+    /**
+     * insert the batch one event at a time
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void insertEach(Blackhole bh){
+        for(Integer event : this.events){
+            this.pq.insert(event);
+        }
+        bh.consume(this.pq.peek());
+    }
+
+    /**
+     * insert the batch in one call
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void insertAll(Blackhole bh){
+        this.pq.insertAll(this.events);
+        bh.consume(this.pq.peek());
+    }
+
+    /**
+     * pop the top thousand events one at a time
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void popEach(Blackhole bh){
+        for(int i = 0; i < 1000; i++){
+            bh.consume(this.pq.pop());
+        }
+    }
+
+    /**
+     * pop the top thousand events in one call
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void popN(Blackhole bh){
+        bh.consume(this.pq.popN(1000));
+    }
+}
@@ -0,0 +1,69 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * benchmarks the heap layouts of PriorityQueue across heap sizes: a binary heap, 4-ary and 8-ary heaps and a
+ * B-heap. every invocation pops the top of a heap of n elements and inserts a new random key, so the heap
+ * stays at size n and each operation walks a full root-to-leaf path. small heaps fit in cache and favour the
+ * binary heap's fewer comparisons; the d-ary and B-heap layouts are expected to pull ahead once the heap
+ * spills out of the last level cache.
+ */
+@State(Scope.Thread)
+public class HeapLayoutBenchmark{
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int n;
+
+    @Param({"binary", "4-ary", "8-ary", "bheap"})
+    private String layout;
+
+    private PriorityQueue<Integer> pq;
+
+    private Integer[] keys;
+
+    private int next;
+
+    /**
+     * fill the heap and generate the keys to insert for this trial
+     */
+    @Setup(Level.Trial)
+    public void fill(){
+        Random random = new Random(42);
+        ArrayList<Integer> arr = new ArrayList<>(this.n);
+        for(int i = 0; i < this.n; i++){
+            arr.add(random.nextInt());
+        }
+        this.keys = new Integer[1 << 16];
+        for(int i = 0; i < this.keys.length; i++){
+            this.keys[i] = random.nextInt();
+        }
+        switch(this.layout){
+            case "binary" -> this.pq = new PriorityQueue<>(false, 2, arr);
+            case "4-ary" -> this.pq = new PriorityQueue<>(false, 4, arr);
+            case "8-ary" -> this.pq = new PriorityQueue<>(false, 8, arr);
+            case "bheap" -> this.pq = new BHeapPriorityQueue<>(false, 1024, arr);
+            default -> throw new IllegalArgumentException("unknown layout " + this.layout);
+        }
+    }
+
+    /**
+     * pop the top and insert a new key
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void popInsert(Blackhole bh){
+        bh.consume(this.pq.pop());
+        this.pq.insert(this.keys[this.next++ & (this.keys.length - 1)]);
+    }
+}
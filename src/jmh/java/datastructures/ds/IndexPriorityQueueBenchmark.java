@@ -0,0 +1,122 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * benchmarks Dijkstra on a random directed graph with IndexPriorityQueue and decreaseKey against the
+ * generic PriorityQueue with lazy deletion, which inserts a duplicate entry on every relaxation and skips
+ * stale entries when they are popped.
+ */
+@State(Scope.Thread)
+public class IndexPriorityQueueBenchmark{
+
+    @Param({"10000", "100000"})
+    private int n;
+
+    /**
+     * out degree of every vertex
+     */
+    @Param({"8"})
+    private int degree;
+
+    private int[][] neighbors;
+
+    private int[][] weights;
+
+    /**
+     * represents a tentative distance to a vertex for the lazy deletion queue
+     *
+     * @param distance tentative distance
+     * @param vertex   vertex
+     */
+    private record Entry(long distance, int vertex) implements Comparable<Entry>{
+        @Override
+        public int compareTo(Entry that){
+            return Long.compare(this.distance, that.distance);
+        }
+    }
+
+    /**
+     * generate the graph once per trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random random = new Random(42);
+        this.neighbors = new int[this.n][this.degree];
+        this.weights = new int[this.n][this.degree];
+        for(int v = 0; v < this.n; v++){
+            for(int i = 0; i < this.degree; i++){
+                this.neighbors[v][i] = random.nextInt(this.n);
+                this.weights[v][i] = 1 + random.nextInt(1000);
+            }
+        }
+    }
+
+    /**
+     * run Dijkstra from vertex 0 with decreaseKey
+     *
+     * @return distances
+     */
+    @Benchmark
+    public long[] indexed(){
+        long[] dist = new long[this.n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[0] = 0;
+        IndexPriorityQueue<Long> pq = new IndexPriorityQueue<>(false, this.n);
+        pq.insert(0, 0L);
+        while(!pq.isEmpty()){
+            int v = pq.popHandle();
+            for(int i = 0; i < this.degree; i++){
+                int w = this.neighbors[v][i];
+                long d = dist[v] + this.weights[v][i];
+                if(d < dist[w]){
+                    if(dist[w] == Long.MAX_VALUE){
+                        pq.insert(w, d);
+                    }else{
+                        pq.decreaseKey(w, d);
+                    }
+                    dist[w] = d;
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * run Dijkstra from vertex 0 with lazy deletion
+     *
+     * @return distances
+     */
+    @Benchmark
+    public long[] lazy(){
+        long[] dist = new long[this.n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[0] = 0;
+        PriorityQueue<Entry> pq = new PriorityQueue<>(false);
+        pq.insert(new Entry(0, 0));
+        while(!pq.isEmpty()){
+            Entry e = pq.pop();
+            int v = e.vertex();
+            if(e.distance() > dist[v]){
+                continue;
+            }
+            for(int i = 0; i < this.degree; i++){
+                int w = this.neighbors[v][i];
+                long d = dist[v] + this.weights[v][i];
+                if(d < dist[w]){
+                    pq.insert(new Entry(d, w));
+                    dist[w] = d;
+                }
+            }
+        }
+        return dist;
+    }
+}
@@ -0,0 +1,85 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * benchmarks IntPriorityQueue and LongPriorityQueue against the generic PriorityQueue by inserting n random
+ * values and popping them all. the keys are generated once per trial, so boxing them for the generic
+ * version is part of its cost, as it is in real use. divide gc.alloc.rate.norm by n for bytes per element.
+ */
+@State(Scope.Thread)
+public class PrimitivePriorityQueueBenchmark{
+
+    @Param({"1000", "100000", "1000000"})
+    private int n;
+
+    private int[] keys;
+
+    /**
+     * generate the keys for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random random = new Random(42);
+        this.keys = new int[this.n];
+        for(int i = 0; i < this.n; i++){
+            this.keys[i] = random.nextInt();
+        }
+    }
+
+    /**
+     * push and pop through the generic priority queue
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void generic(Blackhole bh){
+        PriorityQueue<Integer> pq = new PriorityQueue<>(false);
+        for(int key : this.keys){
+            pq.insert(key);
+        }
+        while(!pq.isEmpty()){
+            bh.consume(pq.pop());
+        }
+    }
+
+    /**
+     * push and pop through the int priority queue
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void primitiveInt(Blackhole bh){
+        IntPriorityQueue pq = new IntPriorityQueue(false);
+        for(int key : this.keys){
+            pq.insert(key);
+        }
+        while(!pq.isEmpty()){
+            bh.consume(pq.pop());
+        }
+    }
+
+    /**
+     * push and pop through the long priority queue
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void primitiveLong(Blackhole bh){
+        LongPriorityQueue pq = new LongPriorityQueue(false);
+        for(int key : this.keys){
+            pq.insert(key);
+        }
+        while(!pq.isEmpty()){
+            bh.consume(pq.pop());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * benchmarks RollbackDisjointSet on offline dynamic connectivity: a random sequence of ops time steps adds an
+ * edge, deletes a live edge or asks if two vertices are connected. every edge is alive over an interval of
+ * time steps, which is stored on the O(log ops) nodes of a segment tree over time that cover it. a depth
+ * first walk of the tree unions the edges of a node on the way down and rolls them back on the way up, so
+ * each leaf sees exactly the edges alive at its time step.
+ */
+@State(Scope.Thread)
+public class RollbackDisjointSetBenchmark{
+
+    @Param({"100000"})
+    private int n;
+
+    @Param({"200000"})
+    private int ops;
+
+    /**
+     * edges stored on each node of the segment tree, as pairs of vertices
+     */
+    private int[][] segments;
+
+    /**
+     * vertices queried at each time step, or -1 if the step is not a query
+     */
+    private int[] queryP;
+
+    private int[] queryQ;
+
+    /**
+     * generate the ops and build the segment tree for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random random = new Random(42);
+        ArrayList<ArrayList<Integer>> tree = new ArrayList<>();
+        for(int i = 0; i < 4 * this.ops; i++){
+            tree.add(new ArrayList<>());
+        }
+        this.queryP = new int[this.ops];
+        this.queryQ = new int[this.ops];
+        HashMap<Long, Integer> added = new HashMap<>();
+        ArrayList<Long> live = new ArrayList<>();
+        for(int t = 0; t < this.ops; t++){
+            this.queryP[t] = -1;
+            int op = random.nextInt(3);
+            if(op == 0 || live.isEmpty()){
+                long edge = (long) random.nextInt(this.n) * this.n + random.nextInt(this.n);
+                if(added.putIfAbsent(edge, t) == null){
+                    live.add(edge);
+                }
+            }else if(op == 1){
+                int k = random.nextInt(live.size());
+                long edge = live.get(k);
+                live.set(k, live.get(live.size() - 1));
+                live.remove(live.size() - 1);
+                this.cover(tree, 1, 0, this.ops, added.remove(edge), t, edge);
+            }else{
+                this.queryP[t] = random.nextInt(this.n);
+                this.queryQ[t] = random.nextInt(this.n);
+            }
+        }
+        for(long edge : live){
+            this.cover(tree, 1, 0, this.ops, added.get(edge), this.ops, edge);
+        }
+        this.segments = new int[tree.size()][];
+        for(int i = 0; i < tree.size(); i++){
+            this.segments[i] = tree.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * helper method to store an edge on the nodes of the segment tree covering [from, to)
+     *
+     * @param tree segment tree
+     * @param node current node
+     * @param lo   first time step of the node
+     * @param hi   one past the last time step of the node
+     * @param from first time step the edge is alive
+     * @param to   first time step the edge is deleted
+     * @param edge edge encoded as p * n + q
+     */
+    private void cover(ArrayList<ArrayList<Integer>> tree, int node, int lo, int hi, int from, int to, long edge){
+        if(to <= lo || hi <= from){
+            return;
+        }
+        if(from <= lo && hi <= to){
+            tree.get(node).add((int) (edge / this.n));
+            tree.get(node).add((int) (edge % this.n));
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        this.cover(tree, 2 * node, lo, mid, from, to, edge);
+        this.cover(tree, 2 * node + 1, mid, hi, from, to, edge);
+    }
+
+    /**
+     * answer every query with one walk of the segment tree
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void offlineConnectivity(Blackhole bh){
+        RollbackDisjointSet ds = new RollbackDisjointSet(this.n);
+        this.walk(ds, 1, 0, this.ops, bh);
+    }
+
+    /**
+     * helper method to walk the segment tree
+     *
+     * @param ds   disjoint set holding the edges alive over the node
+     * @param node current node
+     * @param lo   first time step of the node
+     * @param hi   one past the last time step of the node
+     * @param bh   blackhole
+     */
+    private void walk(RollbackDisjointSet ds, int node, int lo, int hi, Blackhole bh){
+        int token = ds.snapshot();
+        int[] edges = this.segments[node];
+        for(int i = 0; i < edges.length; i += 2){
+            ds.union(edges[i], edges[i + 1]);
+        }
+        if(hi - lo == 1){
+            if(this.queryP[lo] >= 0){
+                bh.consume(ds.isConnected(this.queryP[lo], this.queryQ[lo]));
+            }
+        }else{
+            int mid = (lo + hi) >>> 1;
+            this.walk(ds, 2 * node, lo, mid, bh);
+            this.walk(ds, 2 * node + 1, mid, hi, bh);
+        }
+        ds.rollback(token);
+    }
+}
@@ -0,0 +1,68 @@
+package datastructures.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * benchmarks finding the k largest of a stream of n values with TopK against inserting the whole stream into
+ * a max heap and popping k, which is what Driver does for the word count. check gc.alloc.rate.norm too, the
+ * full heap grows with n while TopK stays at k.
+ */
+@State(Scope.Thread)
+public class TopKBenchmark{
+
+    @Param({"100000", "10000000"})
+    private int n;
+
+    @Param({"100"})
+    private int k;
+
+    private Integer[] stream;
+
+    /**
+     * generate the stream for this trial
+     */
+    @Setup(Level.Trial)
+    public void generate(){
+        Random random = new Random(42);
+        this.stream = new Integer[this.n];
+        for(int i = 0; i < this.n; i++){
+            this.stream[i] = random.nextInt();
+        }
+    }
+
+    /**
+     * keep the best k while streaming
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void topK(Blackhole bh){
+        TopK<Integer> top = new TopK<>(this.k);
+        for(Integer value : this.stream){
+            top.offer(value);
+        }
+        bh.consume(top.snapshot());
+    }
+
+    /**
+     * heap the whole stream and pop the best k
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void fullHeap(Blackhole bh){
+        PriorityQueue<Integer> pq = new PriorityQueue<>(true);
+        for(Integer value : this.stream){
+            pq.insert(value);
+        }
+        bh.consume(pq.popN(this.k));
+    }
+}
@@ -0,0 +1,329 @@
+package datastructures.algo;
+
+import datastructures.ds.PriorityQueue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * represents an external merge sort for binary files of 8-byte big-endian longs that do not fit in memory.
+ * the input is cut into runs of runSize longs, each sorted in memory with {@link Sort#radixSort(long[])} and
+ * spilled to a temp file. runs are then k-way merged fanIn at a time with a {@link PriorityQueue} as the
+ * merge heap, in as many passes as needed.
+ * peak heap usage is about 16 * runSize bytes while creating runs and fanIn * bufferSize bytes while merging.
+ */
+public class ExternalSort{
+
+    /**
+     * number of longs sorted in memory per run
+     */
+    private final int runSize;
+
+    /**
+     * maximum number of runs merged at once
+     */
+    private final int fanIn;
+
+    /**
+     * size in bytes of the buffer behind every open run
+     */
+    private final int bufferSize;
+
+    /**
+     * directory to spill runs into
+     */
+    private final Path tempDir;
+
+    /**
+     * constructor to create an external sort that spills runs into the default temp directory
+     *
+     * @param runSize    number of longs sorted in memory per run
+     * @param fanIn      maximum number of runs merged at once
+     * @param bufferSize size in bytes of the buffer behind every open run, a multiple of 8
+     */
+    public ExternalSort(int runSize, int fanIn, int bufferSize){
+        this(runSize, fanIn, bufferSize, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * constructor to create an external sort
+     *
+     * @param runSize    number of longs sorted in memory per run
+     * @param fanIn      maximum number of runs merged at once
+     * @param bufferSize size in bytes of the buffer behind every open run, a multiple of 8
+     * @param tempDir    directory to spill runs into
+     */
+    public ExternalSort(int runSize, int fanIn, int bufferSize, Path tempDir){
+        if(runSize < 1){
+            throw new IllegalArgumentException("run size must be positive!");
+        }
+        if(fanIn < 2){
+            throw new IllegalArgumentException("fan-in must be at least 2!");
+        }
+        if(bufferSize < Long.BYTES || bufferSize % Long.BYTES != 0){
+            throw new IllegalArgumentException("buffer size must be a positive multiple of 8!");
+        }
+        this.runSize = runSize;
+        this.fanIn = fanIn;
+        this.bufferSize = bufferSize;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * sort the longs in input into output in ascending order. temp files are removed even if sorting fails.
+     *
+     * @param input  binary file of longs to sort
+     * @param output file to write the sorted longs to, replaced if it exists
+     * @throws IOException if reading, writing or spilling fails
+     */
+    public void sort(Path input, Path output) throws IOException{
+        if(Files.size(input) % Long.BYTES != 0){
+            throw new IllegalArgumentException("input size must be a multiple of 8 bytes!");
+        }
+
+        List<Path> temps = new ArrayList<>();
+        try{
+            List<Path> runs = this.createRuns(input, temps);
+            while(runs.size() > this.fanIn){
+                List<Path> next = new ArrayList<>();
+                for(int i = 0; i < runs.size(); i += this.fanIn){
+                    List<Path> group = runs.subList(i, Math.min(i + this.fanIn, runs.size()));
+                    Path merged = this.createTemp(temps);
+                    this.merge(group, merged);
+                    for(Path run : group){
+                        Files.delete(run);
+                    }
+                    next.add(merged);
+                }
+                runs = next;
+            }
+            if(runs.size() == 1){
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            }else{
+                this.merge(runs, output);
+            }
+        }finally{
+            for(Path temp : temps){
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * cut the input into sorted runs and spill each of them to a temp file
+     *
+     * @param input binary file of longs to sort
+     * @param temps list to record every created temp file in
+     * @return the runs in input order
+     * @throws IOException if reading or spilling fails
+     */
+    private List<Path> createRuns(Path input, List<Path> temps) throws IOException{
+        List<Path> runs = new ArrayList<>();
+        long[] chunk = new long[this.runSize];
+        try(RunReader reader = new RunReader(input, this.bufferSize)){
+            int n;
+            do{
+                n = 0;
+                while(n < this.runSize && reader.next()){
+                    chunk[n++] = reader.head;
+                }
+                if(n == 0){
+                    break;
+                }
+                long[] run = n == this.runSize ? chunk : Arrays.copyOf(chunk, n);
+                Sort.radixSort(run);
+                Path path = this.createTemp(temps);
+                try(RunWriter writer = new RunWriter(path, this.bufferSize)){
+                    for(long v : run){
+                        writer.write(v);
+                    }
+                }
+                runs.add(path);
+            }while(n == this.runSize);
+        }
+        return runs;
+    }
+
+    /**
+     * k-way merge the given sorted runs into output
+     *
+     * @param runs   sorted runs to merge
+     * @param output file to write the merged run to
+     * @throws IOException if reading or writing fails
+     */
+    private void merge(List<Path> runs, Path output) throws IOException{
+        PriorityQueue<RunReader> heap = new PriorityQueue<>(false);
+        List<RunReader> readers = new ArrayList<>();
+        try(RunWriter writer = new RunWriter(output, this.bufferSize)){
+            for(Path run : runs){
+                RunReader reader = new RunReader(run, this.bufferSize);
+                readers.add(reader);
+                if(reader.next()){
+                    heap.insert(reader);
+                }
+            }
+            while(!heap.isEmpty()){
+                RunReader reader = heap.pop();
+                writer.write(reader.head);
+                if(reader.next()){
+                    heap.insert(reader);
+                }
+            }
+        }finally{
+            for(RunReader reader : readers){
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * create a temp file for a run and record it
+     *
+     * @param temps list to record the temp file in
+     * @return path of the temp file
+     * @throws IOException if the file cannot be created
+     */
+    private Path createTemp(List<Path> temps) throws IOException{
+        Path temp = Files.createTempFile(this.tempDir, "external-sort-", ".run");
+        temps.add(temp);
+        return temp;
+    }
+
+    /**
+     * represents a buffered sequential reader over a file of longs, ordered by the long it currently holds
+     */
+    private static class RunReader implements Comparable<RunReader>, Closeable{
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        /**
+         * the long most recently read
+         */
+        private long head;
+
+        /**
+         * default constructor
+         *
+         * @param path       file to read
+         * @param bufferSize size of the read buffer in bytes
+         * @throws IOException if the file cannot be opened
+         */
+        private RunReader(Path path, int bufferSize) throws IOException{
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+            this.buffer.flip();
+        }
+
+        /**
+         * read the next long into head
+         *
+         * @return false if the file has ended
+         * @throws IOException if reading fails
+         */
+        private boolean next() throws IOException{
+            if(this.buffer.remaining() < Long.BYTES){
+                this.buffer.compact();
+                while(this.buffer.position() < Long.BYTES){
+                    if(this.channel.read(this.buffer) == -1){
+                        this.buffer.flip();
+                        return false;
+                    }
+                }
+                this.buffer.flip();
+            }
+            this.head = this.buffer.getLong();
+            return true;
+        }
+
+        /**
+         * compare two readers by the long they currently hold
+         *
+         * @param that the other reader
+         * @return difference
+         */
+        @Override
+        public int compareTo(RunReader that){
+            return Long.compare(this.head, that.head);
+        }
+
+        /**
+         * close the underlying file
+         *
+         * @throws IOException if closing fails
+         */
+        @Override
+        public void close() throws IOException{
+            this.channel.close();
+        }
+    }
+
+    /**
+     * represents a buffered sequential writer of longs to a file
+     */
+    private static class RunWriter implements Closeable{
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        /**
+         * default constructor, truncates the file if it exists
+         *
+         * @param path       file to write
+         * @param bufferSize size of the write buffer in bytes
+         * @throws IOException if the file cannot be opened
+         */
+        private RunWriter(Path path, int bufferSize) throws IOException{
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        /**
+         * append a long
+         *
+         * @param v value to write
+         * @throws IOException if writing fails
+         */
+        private void write(long v) throws IOException{
+            if(this.buffer.remaining() < Long.BYTES){
+                this.flush();
+            }
+            this.buffer.putLong(v);
+        }
+
+        /**
+         * write out everything in the buffer
+         *
+         * @throws IOException if writing fails
+         */
+        private void flush() throws IOException{
+            this.buffer.flip();
+            while(this.buffer.hasRemaining()){
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        /**
+         * flush and close the underlying file
+         *
+         * @throws IOException if writing or closing fails
+         */
+        @Override
+        public void close() throws IOException{
+            try{
+                this.flush();
+            }finally{
+                this.channel.close();
+            }
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package datastructures.algo;
 
-import datastructures.ds.DoublyEndedQueue;
+import datastructures.ds.ArrayDoublyEndedQueue;
+import datastructures.ds.WorkStealingDeque;
 import datastructures.ds.graph.Graph;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
@@ -65,7 +71,7 @@ public class Search{
      */
     public static <T> void dfs(Graph<T> graph, Consumer<T> func){
         Set<T> visited = new HashSet<>();
-        DoublyEndedQueue<T> workList = new DoublyEndedQueue<>();
+        ArrayDoublyEndedQueue<T> workList = new ArrayDoublyEndedQueue<>();
         for(T v : graph.getVertices()){
             workList.insertLast(v);
             while(!workList.isEmpty()){
@@ -83,6 +89,140 @@ public class Search{
         }
     }
 
+    /**
+     * perform dfs on the given graph with as many workers as available processors
+     *
+     * @param graph graph used for traverse
+     * @param func  thread-safe function to perform on vertex
+     * @param <T>   type of the vertex
+     */
+    public static <T> void parallelDfs(Graph<T> graph, Consumer<T> func){
+        parallelDfs(graph, func, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * perform dfs on the given graph with the given number of workers. each worker explores depth first
+     * from its own WorkStealingDeque, and a worker that runs out of vertices steals the oldest pending vertex
+     * of a random other worker. every vertex is visited exactly once, but the order is not deterministic,
+     * and func is called concurrently from the workers. the graph must not be modified during the traversal.
+     *
+     * @param graph   graph used for traverse
+     * @param func    thread-safe function to perform on vertex
+     * @param workers number of worker threads
+     * @param <T>     type of the vertex
+     */
+    public static <T> void parallelDfs(Graph<T> graph, Consumer<T> func, int workers){
+        if(workers < 1){
+            throw new IllegalArgumentException("number of workers must be positive!");
+        }
+        Set<T> visited = ConcurrentHashMap.newKeySet(graph.V());
+        List<WorkStealingDeque<T>> workLists = new ArrayList<>();
+        for(int i = 0; i < workers; i++){
+            workLists.add(new WorkStealingDeque<>());
+        }
+        // seed the roots round robin, in reverse so each worker starts from its earliest root
+        List<T> vertices = graph.getVertices();
+        for(int i = vertices.size() - 1; i >= 0; i--){
+            workLists.get(i % workers).push(vertices.get(i));
+        }
+
+        // a worker is active while it has vertices of its own or is stealing, so once no worker is active
+        // every work list is empty and no vertex can be pushed anymore
+        AtomicInteger active = new AtomicInteger(workers);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for(int i = 0; i < workers; i++){
+            int id = i;
+            Thread thread = new Thread(() -> {
+                try{
+                    dfsWorker(graph, func, visited, workLists, id, active, failure);
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            }, "parallel-dfs-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        try{
+            for(Thread thread : threads){
+                thread.join();
+            }
+        }catch(InterruptedException e){
+            failure.compareAndSet(null, e);
+            for(Thread thread : threads){
+                thread.interrupt();
+            }
+            Thread.currentThread().interrupt();
+        }
+        Throwable e = failure.get();
+        if(e instanceof RuntimeException re){
+            throw re;
+        }
+        if(e instanceof Error err){
+            throw err;
+        }
+        if(e != null){
+            throw new IllegalStateException("parallel dfs was interrupted!", e);
+        }
+    }
+
+    /**
+     * helper method run by each worker of parallel dfs
+     *
+     * @param graph     graph used for traverse
+     * @param func      thread-safe function to perform on vertex
+     * @param visited   concurrent set of visited vertices
+     * @param workLists work list of every worker
+     * @param id        index of this worker
+     * @param active    number of active workers
+     * @param failure   first failure of any worker
+     * @param <T>       type of the vertex
+     */
+    private static <T> void dfsWorker(Graph<T> graph, Consumer<T> func, Set<T> visited,
+                                      List<WorkStealingDeque<T>> workLists, int id, AtomicInteger active,
+                                      AtomicReference<Throwable> failure){
+        WorkStealingDeque<T> workList = workLists.get(id);
+        int workers = workLists.size();
+        boolean oversubscribed = workers > Runtime.getRuntime().availableProcessors();
+        T cur = workList.pop();
+        while(true){
+            while(cur != null){
+                if(visited.add(cur)){
+                    func.accept(cur);
+                    for(T n : graph.getNeighbor(cur)){
+                        if(!visited.contains(n)){
+                            workList.push(n);
+                        }
+                    }
+                }
+                cur = workList.pop();
+            }
+            if(failure.get() != null){
+                return;
+            }
+            // out of vertices, become idle and look for a victim
+            active.decrementAndGet();
+            while(cur == null){
+                if(active.get() == 0 || failure.get() != null){
+                    return;
+                }
+                WorkStealingDeque<T> victim = workLists.get(ThreadLocalRandom.current().nextInt(workers));
+                if(victim == workList || victim.isEmpty()){
+                    Thread.onSpinWait();
+                    if(oversubscribed){
+                        Thread.yield();
+                    }
+                    continue;
+                }
+                active.incrementAndGet();
+                cur = victim.steal();
+                if(cur == null){
+                    active.decrementAndGet();
+                }
+            }
+        }
+    }
+
     /**
      * perform bfs on the given graph
      *
@@ -92,7 +232,7 @@ public class Search{
      */
     public static <T> void bfs(Graph<T> graph, Consumer<T> func){
         Set<T> visited = new HashSet<>();
-        DoublyEndedQueue<T> workList = new DoublyEndedQueue<>();
+        ArrayDoublyEndedQueue<T> workList = new ArrayDoublyEndedQueue<>();
         for(T v : graph.getVertices()){
             workList.insertLast(v);
             while(!workList.isEmpty()){
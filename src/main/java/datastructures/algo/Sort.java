@@ -3,7 +3,11 @@ package datastructures.algo;
 import datastructures.util.Utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * represents a sorter for a specific type of data
@@ -57,10 +61,22 @@ public class Sort{
      * @param <T> the type of data
      */
     public static <T extends Comparable<T>> void insertionSort(List<T> arr){
-        for(int i = 1; i < arr.size(); i++){
+        insertionSort(arr, 0, arr.size());
+    }
+
+    /**
+     * helper function to perform insertion sort on the given range of given arr
+     *
+     * @param arr arr to perform insertion sort on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @param <T> the type of data
+     */
+    private static <T extends Comparable<T>> void insertionSort(List<T> arr, int l, int r){
+        for(int i = l + 1; i < r; i++){
             T curElement = arr.get(i);
             int j = i;
-            for(; j > 0 && arr.get(j - 1).compareTo(curElement) > 0; j--){
+            for(; j > l && arr.get(j - 1).compareTo(curElement) > 0; j--){
                 arr.set(j, arr.get(j - 1));
             }
             arr.set(j, curElement);
@@ -144,6 +160,338 @@ public class Sort{
         }
     }
 
+    /**
+     * per-thread scratch buffers for mergeSortThreadLocal, grown to the largest array sorted on the thread
+     */
+    private static final ThreadLocal<ArrayList<Object>> SCRATCH = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<int[]> INT_SCRATCH = ThreadLocal.withInitial(() -> new int[0]);
+
+    /**
+     * perform merge sort on given array using the given scratch buffer instead of allocating one.
+     * levels alternate between arr and scratch as source and destination, so nothing is copied back
+     * after a merge. once scratch has grown to the size of arr, sorting does not allocate.
+     *
+     * @param arr     given array to sort
+     * @param scratch buffer to sort through, overwritten with the elements of arr
+     * @param <T>     the type of data
+     */
+    public static <T extends Comparable<T>> void mergeSort(List<T> arr, List<T> scratch){
+        int n = arr.size();
+        scratch.clear();
+        for(int i = 0; i < n; i++){
+            scratch.add(arr.get(i));
+        }
+        mergeSortInto(scratch, arr, 0, n);
+    }
+
+    /**
+     * perform merge sort on given array using a scratch buffer kept per thread, so repeated calls on a thread
+     * do not allocate once the buffer has grown to the largest array sorted
+     *
+     * @param arr given array to sort
+     * @param <T> the type of data
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> void mergeSortThreadLocal(List<T> arr){
+        List<T> scratch = (List<T>) (List<?>) SCRATCH.get();
+        mergeSort(arr, scratch);
+        scratch.clear();  // do not keep the elements alive
+    }
+
+    /**
+     * helper function to sort [l, r) into dst, where src and dst hold the same elements on [l, r).
+     * both halves are sorted into src with the roles swapped, then merged into dst.
+     *
+     * @param src source of the elements, used as scratch
+     * @param dst destination of the sorted range
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @param <T> the type of data
+     */
+    private static <T extends Comparable<T>> void mergeSortInto(List<T> src, List<T> dst, int l, int r){
+        if(r - l <= INSERTION_SORT_CUTOFF){
+            insertionSort(dst, l, r);
+            return;
+        }
+
+        int m = l + ((r - l) / 2);
+        mergeSortInto(dst, src, l, m);
+        mergeSortInto(dst, src, m, r);
+        if(src.get(m - 1).compareTo(src.get(m)) <= 0){  // already in order
+            for(int k = l; k < r; k++){
+                dst.set(k, src.get(k));
+            }
+            return;
+        }
+        int i = l;
+        int j = m;
+        for(int k = l; k < r; k++){
+            if(i == m){
+                dst.set(k, src.get(j++));
+            }else if(j == r){
+                dst.set(k, src.get(i++));
+            }else if(src.get(j).compareTo(src.get(i)) < 0){
+                dst.set(k, src.get(j++));
+            }else{
+                dst.set(k, src.get(i++));
+            }
+        }
+    }
+
+    /**
+     * perform merge sort on given array using the given scratch buffer instead of allocating one.
+     * levels alternate between arr and scratch as source and destination, so nothing is copied back
+     * after a merge.
+     *
+     * @param arr     given array to sort
+     * @param scratch buffer to sort through, at least as long as arr
+     */
+    public static void mergeSort(int[] arr, int[] scratch){
+        if(scratch.length < arr.length){
+            throw new IllegalArgumentException("scratch buffer is smaller than the array to sort!");
+        }
+        System.arraycopy(arr, 0, scratch, 0, arr.length);
+        mergeSortInto(scratch, arr, 0, arr.length);
+    }
+
+    /**
+     * perform merge sort on given array using a scratch buffer kept per thread, so repeated calls on a thread
+     * do not allocate once the buffer has grown to the largest array sorted
+     *
+     * @param arr given array to sort
+     */
+    public static void mergeSortThreadLocal(int[] arr){
+        int[] scratch = INT_SCRATCH.get();
+        if(scratch.length < arr.length){
+            scratch = new int[arr.length];
+            INT_SCRATCH.set(scratch);
+        }
+        mergeSort(arr, scratch);
+    }
+
+    /**
+     * helper function to sort [l, r) into dst, where src and dst hold the same elements on [l, r).
+     * both halves are sorted into src with the roles swapped, then merged into dst.
+     *
+     * @param src source of the elements, used as scratch
+     * @param dst destination of the sorted range
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void mergeSortInto(int[] src, int[] dst, int l, int r){
+        if(r - l <= INSERTION_SORT_CUTOFF){
+            for(int i = l + 1; i < r; i++){
+                int curElement = dst[i];
+                int j = i;
+                for(; j > l && dst[j - 1] > curElement; j--){
+                    dst[j] = dst[j - 1];
+                }
+                dst[j] = curElement;
+            }
+            return;
+        }
+
+        int m = l + ((r - l) / 2);
+        mergeSortInto(dst, src, l, m);
+        mergeSortInto(dst, src, m, r);
+        if(src[m - 1] <= src[m]){  // already in order
+            System.arraycopy(src, l, dst, l, r - l);
+            return;
+        }
+        int i = l;
+        int j = m;
+        for(int k = l; k < r; k++){
+            if(i == m){
+                dst[k] = src[j++];
+            }else if(j == r){
+                dst[k] = src[i++];
+            }else if(src[j] < src[i]){
+                dst[k] = src[j++];
+            }else{
+                dst[k] = src[i++];
+            }
+        }
+    }
+
+    /**
+     * runs shorter than this are extended with binary insertion sort by adaptive merge sort
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * number of consecutive wins from one run after which adaptive merge sort switches to galloping
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * perform an adaptive, stable merge sort (TimSort-style) on given array. existing ascending and strictly
+     * descending runs are detected and kept, short runs are extended to a minimum run length with binary
+     * insertion sort, and runs are merged with galloping so that ordered and nearly ordered arrays sort in
+     * close to linear time.
+     *
+     * @param arr arr to perform merge sort on
+     * @param <T> the type of data
+     */
+    public static <T extends Comparable<T>> void adaptiveMergeSort(List<T> arr){
+        int n = arr.size();
+        if(n < 2){
+            return;
+        }
+
+        int minRun = minRunLength(n);
+        RunStack<T> runs = new RunStack<>(arr);
+        for(int lo = 0; lo < n; ){
+            int len = countRunAndMakeAscending(arr, lo, n);
+            if(len < minRun){
+                int force = Math.min(minRun, n - lo);
+                binaryInsertionSort(arr, lo, lo + force, lo + len);
+                len = force;
+            }
+            runs.push(lo, len);
+            runs.mergeCollapse();
+            lo += len;
+        }
+        runs.mergeForceCollapse();
+    }
+
+    /**
+     * helper function to compute the minimum run length for adaptive merge sort, chosen so that n / minRun
+     * is close to a power of two and the final merges stay balanced
+     *
+     * @param n size of the array
+     * @return minimum run length within [MIN_MERGE / 2, MIN_MERGE]
+     */
+    private static int minRunLength(int n){
+        int r = 0;
+        while(n >= MIN_MERGE){
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * helper function to find the length of the run starting at lo, reversing it if it is strictly descending
+     *
+     * @param arr arr to look for the run in
+     * @param lo  start of the run (inclusive)
+     * @param hi  right bound of the array (non-inclusive)
+     * @param <T> the type of data
+     * @return length of the run
+     */
+    private static <T extends Comparable<T>> int countRunAndMakeAscending(List<T> arr, int lo, int hi){
+        int runHi = lo + 1;
+        if(runHi == hi){
+            return 1;
+        }
+
+        if(arr.get(runHi).compareTo(arr.get(lo)) < 0){
+            runHi += 1;
+            while(runHi < hi && arr.get(runHi).compareTo(arr.get(runHi - 1)) < 0){
+                runHi += 1;
+            }
+            for(int i = lo, j = runHi - 1; i < j; i++, j--){
+                Utils.swap(arr, i, j);
+            }
+        }else{
+            runHi += 1;
+            while(runHi < hi && arr.get(runHi).compareTo(arr.get(runHi - 1)) >= 0){
+                runHi += 1;
+            }
+        }
+        return runHi - lo;
+    }
+
+    /**
+     * helper function to perform a stable binary insertion sort on [lo, hi) of given arr,
+     * where [lo, start) is already sorted
+     *
+     * @param arr   arr to perform insertion sort on
+     * @param lo    left bound (inclusive)
+     * @param hi    right bound (non-inclusive)
+     * @param start index of the first element not known to be sorted
+     * @param <T>   the type of data
+     */
+    private static <T extends Comparable<T>> void binaryInsertionSort(List<T> arr, int lo, int hi, int start){
+        for(int i = start; i < hi; i++){
+            T curElement = arr.get(i);
+            int l = lo;
+            int r = i;
+            while(l < r){  // find the first element greater than curElement to keep equal keys in order
+                int m = l + (r - l) / 2;
+                if(curElement.compareTo(arr.get(m)) < 0){
+                    r = m;
+                }else{
+                    l = m + 1;
+                }
+            }
+            for(int j = i; j > l; j--){
+                arr.set(j, arr.get(j - 1));
+            }
+            arr.set(l, curElement);
+        }
+    }
+
+    /**
+     * helper function to count the elements of the sorted range [base, base + len) smaller than key,
+     * searching exponentially from base so that short answers are found in a few comparisons
+     *
+     * @param key  key to search for
+     * @param arr  arr holding the sorted range
+     * @param base start of the range
+     * @param len  length of the range
+     * @param <T>  the type of data
+     * @return number of elements smaller than key
+     */
+    private static <T extends Comparable<T>> int gallopLeft(T key, List<T> arr, int base, int len){
+        int lo = 0;
+        int step = 1;
+        while(step <= len - lo && arr.get(base + lo + step - 1).compareTo(key) < 0){
+            lo += step;
+            step *= 2;
+        }
+        int hi = step <= len - lo ? lo + step - 1 : len;
+        while(lo < hi){
+            int m = lo + (hi - lo) / 2;
+            if(arr.get(base + m).compareTo(key) < 0){
+                lo = m + 1;
+            }else{
+                hi = m;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * helper function to count the elements of the sorted range [base, base + len) smaller than or equal to key,
+     * searching exponentially from base so that short answers are found in a few comparisons
+     *
+     * @param key  key to search for
+     * @param arr  arr holding the sorted range
+     * @param base start of the range
+     * @param len  length of the range
+     * @param <T>  the type of data
+     * @return number of elements smaller than or equal to key
+     */
+    private static <T extends Comparable<T>> int gallopRight(T key, List<T> arr, int base, int len){
+        int lo = 0;
+        int step = 1;
+        while(step <= len - lo && arr.get(base + lo + step - 1).compareTo(key) <= 0){
+            lo += step;
+            step *= 2;
+        }
+        int hi = step <= len - lo ? lo + step - 1 : len;
+        while(lo < hi){
+            int m = lo + (hi - lo) / 2;
+            if(arr.get(base + m).compareTo(key) <= 0){
+                lo = m + 1;
+            }else{
+                hi = m;
+            }
+        }
+        return lo;
+    }
+
     /**
      * perform quick sort on given array
      *
@@ -214,38 +562,1727 @@ public class Sort{
      * @param <T> the type of data
      */
     public static <T extends Comparable<T>> void heapSort(List<T> arr){
-        for(int i = (arr.size() / 2) - 1; i >= 0; i--){
-            shiftDown(arr, i, arr.size());
+        heapSort(arr, 0, arr.size());
+    }
+
+    /**
+     * helper function to perform heap sort on the given range of given arr
+     *
+     * @param arr arr to perform heap sort on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @param <T> the type of data
+     */
+    private static <T extends Comparable<T>> void heapSort(List<T> arr, int l, int r){
+        for(int i = ((r - l) / 2) - 1; i >= 0; i--){
+            shiftDown(arr, l, i, r - l);
         }
-        for(int i = arr.size() - 1; i > 0; i--){
-            Utils.swap(arr, 0, i);
-            shiftDown(arr, 0, i);
+        for(int i = r - l - 1; i > 0; i--){
+            Utils.swap(arr, l, l + i);
+            shiftDown(arr, l, 0, i);
         }
     }
 
     /**
-     * helper function to perform shift down on the given array
+     * helper function to perform shift down on the heap stored in the given array starting at offset
      *
-     * @param arr array to perform shift down on
-     * @param i   index of the element to perform shift down on
-     * @param sz  the size of the heap array
-     * @param <T> the type of data
+     * @param arr    array to perform shift down on
+     * @param offset index in arr of the root of the heap
+     * @param i      index of the element to perform shift down on, relative to offset
+     * @param sz     the size of the heap array
+     * @param <T>    the type of data
      */
-    private static <T extends Comparable<T>> void shiftDown(List<T> arr, int i, int sz){
+    private static <T extends Comparable<T>> void shiftDown(List<T> arr, int offset, int i, int sz){
         while((i * 2 + 1) < sz){  //while i has a left child
             int maxIndex = i;
-            if(arr.get(i * 2 + 1).compareTo(arr.get(maxIndex)) > 0){
+            if(arr.get(offset + i * 2 + 1).compareTo(arr.get(offset + maxIndex)) > 0){
                 maxIndex = i * 2 + 1;
             }
-            if(i * 2 + 2 < sz && arr.get(i * 2 + 2).compareTo(arr.get(maxIndex)) > 0){
+            if(i * 2 + 2 < sz && arr.get(offset + i * 2 + 2).compareTo(arr.get(offset + maxIndex)) > 0){
                 //has right child and right child > current node and left child
                 maxIndex = i * 2 + 2;
             }
             if(i == maxIndex){
                 break;
             }
-            Utils.swap(arr, i, maxIndex);
+            Utils.swap(arr, offset + i, offset + maxIndex);
             i = maxIndex;
         }
     }
+
+    /**
+     * ranges at or below this size are finished with insertion sort by the introsort quick sorts
+     */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    /**
+     * get the recursion depth after which the introsort quick sorts fall back to heap sort
+     *
+     * @param n size of the array
+     * @return 2 * floor(log2(n))
+     */
+    private static int depthLimit(int n){
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+    }
+
+    /**
+     * perform quick sort with three-way (Dijkstra) partition on given array. keys equal to the pivot are
+     * gathered in the middle and never recursed into, so arrays with many duplicates sort in close to linear time.
+     * small ranges are finished with insertion sort and ranges recursing too deep fall back to heap sort,
+     * so the worst case is O(n log n).
+     *
+     * @param arr arr to perform quick sort on
+     * @param <T> the type of data
+     */
+    public static <T extends Comparable<T>> void quickSort3Ways(List<T> arr){
+        quickSort3Ways(arr, 0, arr.size(), depthLimit(arr.size()));
+    }
+
+    /**
+     * helper function to recursively perform three-way quick sort on the given range of given arr
+     *
+     * @param arr   the array to perform quick sort on
+     * @param l     left bound (inclusive)
+     * @param r     right bound (non-inclusive)
+     * @param depth remaining recursion depth before falling back to heap sort
+     * @param <T>   the type of data
+     */
+    private static <T extends Comparable<T>> void quickSort3Ways(List<T> arr, int l, int r, int depth){
+        if(r - l <= INSERTION_SORT_CUTOFF){
+            insertionSort(arr, l, r);
+            return;
+        }
+        if(depth == 0){
+            heapSort(arr, l, r);
+            return;
+        }
+
+        Utils.swap(arr, l, (int) (Math.random() * (r - l)) + l);
+        T cur = arr.get(l);
+
+        int lt = l;  // [l + 1...lt] < v
+        int gt = r;  // [gt...r) > v
+        int i = l + 1;  // [lt + 1...i) == v
+        while(i < gt){
+            int cmp = arr.get(i).compareTo(cur);
+            if(cmp < 0){
+                lt += 1;
+                Utils.swap(arr, i, lt);
+                i += 1;
+            }else if(cmp > 0){
+                gt -= 1;
+                Utils.swap(arr, i, gt);
+            }else{
+                i += 1;
+            }
+        }
+        Utils.swap(arr, l, lt);
+
+        quickSort3Ways(arr, l, lt, depth - 1);
+        quickSort3Ways(arr, gt, r, depth - 1);
+    }
+
+    /**
+     * perform dual-pivot quick sort on given array. two random pivots p &lt;= q split the range into
+     * &lt; p, between p and q, and &gt; q. small ranges are finished with insertion sort and ranges recursing
+     * too deep fall back to heap sort, so the worst case is O(n log n).
+     *
+     * @param arr arr to perform quick sort on
+     * @param <T> the type of data
+     */
+    public static <T extends Comparable<T>> void quickSortDualPivot(List<T> arr){
+        quickSortDualPivot(arr, 0, arr.size(), depthLimit(arr.size()));
+    }
+
+    /**
+     * helper function to recursively perform dual-pivot quick sort on the given range of given arr
+     *
+     * @param arr   the array to perform quick sort on
+     * @param l     left bound (inclusive)
+     * @param r     right bound (non-inclusive)
+     * @param depth remaining recursion depth before falling back to heap sort
+     * @param <T>   the type of data
+     */
+    private static <T extends Comparable<T>> void quickSortDualPivot(List<T> arr, int l, int r, int depth){
+        if(r - l <= INSERTION_SORT_CUTOFF){
+            insertionSort(arr, l, r);
+            return;
+        }
+        if(depth == 0){
+            heapSort(arr, l, r);
+            return;
+        }
+
+        Utils.swap(arr, l, (int) (Math.random() * (r - l)) + l);
+        Utils.swap(arr, r - 1, (int) (Math.random() * (r - l - 1)) + l + 1);
+        if(arr.get(l).compareTo(arr.get(r - 1)) > 0){
+            Utils.swap(arr, l, r - 1);
+        }
+        T p = arr.get(l);
+        T q = arr.get(r - 1);
+
+        int lt = l + 1;  // [l + 1...lt) < p
+        int gt = r - 2;  // (gt...r - 2] > q
+        int i = l + 1;  // [lt...i) between p and q
+        while(i <= gt){
+            if(arr.get(i).compareTo(p) < 0){
+                Utils.swap(arr, i, lt);
+                lt += 1;
+                i += 1;
+            }else if(arr.get(i).compareTo(q) > 0){
+                Utils.swap(arr, i, gt);
+                gt -= 1;
+            }else{
+                i += 1;
+            }
+        }
+        lt -= 1;
+        gt += 1;
+        Utils.swap(arr, l, lt);
+        Utils.swap(arr, r - 1, gt);
+
+        quickSortDualPivot(arr, l, lt, depth - 1);
+        if(p.compareTo(q) < 0){  // all keys in the middle equal p when both pivots are equal
+            quickSortDualPivot(arr, lt + 1, gt, depth - 1);
+        }
+        quickSortDualPivot(arr, gt + 1, r, depth - 1);
+    }
+
+    /**
+     * number of buckets per radix sort digit, one byte at a time
+     */
+    private static final int RADIX = 256;
+
+    /**
+     * arrays of at least this size build their radix sort histogram in parallel
+     */
+    private static final int PARALLEL_HISTOGRAM_THRESHOLD = 1 << 18;
+
+    /**
+     * perform LSD radix sort on given array, one byte per pass. negative numbers are handled by flipping the
+     * sign bit, and passes in which every key has the same byte are skipped.
+     *
+     * @param arr arr to perform radix sort on
+     */
+    public static void radixSort(int[] arr){
+        int n = arr.length;
+        if(n < 2){
+            return;
+        }
+
+        int[][] count = n >= PARALLEL_HISTOGRAM_THRESHOLD
+                ? ForkJoinPool.commonPool().invoke(new IntHistogramTask(arr, 0, n))
+                : IntHistogramTask.histogram(arr, 0, n);
+        int[] src = arr;
+        int[] dst = new int[n];
+        for(int pass = 0; pass < Integer.BYTES; pass++){
+            int shift = pass * 8;
+            int[] c = count[pass];
+            if(c[((src[0] ^ Integer.MIN_VALUE) >>> shift) & 0xFF] == n){
+                continue;
+            }
+            for(int b = 0, sum = 0; b < RADIX; b++){
+                int t = c[b];
+                c[b] = sum;
+                sum += t;
+            }
+            for(int v : src){
+                dst[c[((v ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = v;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if(src != arr){
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    /**
+     * perform LSD radix sort on given array, one byte per pass. negative numbers are handled by flipping the
+     * sign bit, and passes in which every key has the same byte are skipped.
+     *
+     * @param arr arr to perform radix sort on
+     */
+    public static void radixSort(long[] arr){
+        int n = arr.length;
+        if(n < 2){
+            return;
+        }
+
+        int[][] count = n >= PARALLEL_HISTOGRAM_THRESHOLD
+                ? ForkJoinPool.commonPool().invoke(new LongHistogramTask(arr, 0, n))
+                : LongHistogramTask.histogram(arr, 0, n);
+        long[] src = arr;
+        long[] dst = new long[n];
+        for(int pass = 0; pass < Long.BYTES; pass++){
+            int shift = pass * 8;
+            int[] c = count[pass];
+            if(c[(int) ((src[0] ^ Long.MIN_VALUE) >>> shift) & 0xFF] == n){
+                continue;
+            }
+            for(int b = 0, sum = 0; b < RADIX; b++){
+                int t = c[b];
+                c[b] = sum;
+                sum += t;
+            }
+            for(long v : src){
+                dst[c[(int) ((v ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = v;
+            }
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if(src != arr){
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    /**
+     * perform MSD radix sort on given array of strings, in the same order as {@link String#compareTo}.
+     * each char is split into a high and a low byte digit so that buckets stay at 256 for any char,
+     * and buckets of at most INSERTION_SORT_CUTOFF strings are finished with insertion sort.
+     *
+     * @param arr arr to perform radix sort on
+     */
+    public static void radixSort(List<String> arr){
+        msdRadixSort(arr, new ArrayList<>(arr), 0, arr.size(), 0);
+    }
+
+    /**
+     * helper function to get the d-th byte digit of a string
+     *
+     * @param s string
+     * @param d index of the digit, two per char starting from the high byte
+     * @return the digit within [0, 256), or -1 if the string has ended
+     */
+    private static int digitAt(String s, int d){
+        int i = d >> 1;
+        if(i >= s.length()){
+            return -1;
+        }
+        char c = s.charAt(i);
+        return (d & 1) == 0 ? c >>> 8 : c & 0xFF;
+    }
+
+    /**
+     * helper function to recursively perform MSD radix sort on the given range, where all strings
+     * share the same first d digits
+     *
+     * @param arr arr to perform radix sort on
+     * @param aux buffer of the same size as arr
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @param d   index of the digit to distribute on
+     */
+    private static void msdRadixSort(List<String> arr, List<String> aux, int l, int r, int d){
+        int[] count = new int[RADIX + 2];
+        while(true){
+            if(r - l <= INSERTION_SORT_CUTOFF){
+                insertionSort(arr, l, r);
+                return;
+            }
+
+            Arrays.fill(count, 0);
+            for(int i = l; i < r; i++){
+                count[digitAt(arr.get(i), d) + 2]++;
+            }
+            if(count[1] == r - l){  // every string has ended, so they are all equal
+                return;
+            }
+            boolean singleBucket = false;
+            for(int b = 2; b < RADIX + 2; b++){
+                if(count[b] == r - l){
+                    singleBucket = true;
+                    break;
+                }
+            }
+            if(!singleBucket){
+                break;
+            }
+            d += 1;  // nothing to distribute, move on to the next digit without recursing
+        }
+
+        for(int b = 0; b < RADIX + 1; b++){
+            count[b + 1] += count[b];
+        }
+        for(int i = l; i < r; i++){
+            String s = arr.get(i);
+            aux.set(l + count[digitAt(s, d) + 1]++, s);
+        }
+        for(int i = l; i < r; i++){
+            arr.set(i, aux.get(i));
+        }
+        for(int b = 0; b < RADIX; b++){
+            msdRadixSort(arr, aux, l + count[b], l + count[b + 1], d + 1);
+        }
+    }
+
+    /**
+     * determines if the given array is sorted in ascending order
+     *
+     * @param arr given array
+     * @return boolean value
+     */
+    public static boolean isSorted(int[] arr){
+        for(int i = 0; i < arr.length - 1; i++){
+            if(arr[i] > arr[i + 1]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * perform selection sort on given array
+     *
+     * @param arr given array to sort
+     */
+    public static void selectionSort(int[] arr){
+        for(int i = 0; i < arr.length - 1; i++){
+            int smallest = i;
+            for(int j = i + 1; j < arr.length; j++){
+                if(arr[smallest] > arr[j]){
+                    smallest = j;
+                }
+            }
+            Utils.swap(arr, smallest, i);
+        }
+    }
+
+    /**
+     * perform insertion sort on given array
+     *
+     * @param arr given array to sort
+     */
+    public static void insertionSort(int[] arr){
+        for(int i = 1; i < arr.length; i++){
+            int curElement = arr[i];
+            int j = i;
+            for(; j > 0 && arr[j - 1] > curElement; j--){
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = curElement;
+        }
+    }
+
+    /**
+     * perform merge sort on given array recursively
+     *
+     * @param arr given array to sort
+     */
+    public static void mergeSort(int[] arr){
+        mergeSort(arr, arr.clone(), 0, arr.length);
+    }
+
+    /**
+     * helper function to recursively perform merge sort on the given range of given arr
+     *
+     * @param arr arr to perform merge sort on
+     * @param aux copy of arr for reference
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void mergeSort(int[] arr, int[] aux, int l, int r){
+        if(l + 1 >= r){
+            return;
+        }
+
+        int m = l + ((r - l) / 2);
+        mergeSort(arr, aux, l, m);
+        mergeSort(arr, aux, m, r);
+        merge(arr, aux, l, m, r);
+    }
+
+    /**
+     * helper function to perform merge on the given range [l, m) and [m, r) of given arr
+     *
+     * @param arr arr to perform merge
+     * @param aux copy of arr for reference
+     * @param l   left bound (inclusive)
+     * @param m   mid index
+     * @param r   right bound (non-inclusive)
+     */
+    private static void merge(int[] arr, int[] aux, int l, int m, int r){
+        int i = l;
+        int j = m;
+        for(int k = l; k < r; k++){
+            if(i == m){
+                arr[k] = aux[j++];
+            }else if(j == r){
+                arr[k] = aux[i++];
+            }else if(aux[i] < aux[j]){
+                arr[k] = aux[i++];
+            }else{
+                arr[k] = aux[j++];
+            }
+        }
+
+        System.arraycopy(arr, l, aux, l, r - l);
+    }
+
+    /**
+     * perform merge sort on given array
+     *
+     * @param arr arr to perform merge sort on
+     */
+    public static void mergeSortBottomUp(int[] arr){
+        int[] aux = arr.clone();
+        int n = arr.length;
+
+        for(int sz = 1; sz < n; sz += sz){
+            for(int i = 0; i < n - sz; i += sz + sz){
+                merge(arr, aux, i, i + sz, Math.min(n, i + sz + sz));
+            }
+        }
+    }
+
+    /**
+     * perform quick sort on given array
+     *
+     * @param arr arr to perform quick sort on
+     */
+    public static void quickSort(int[] arr){
+        quickSort(arr, 0, arr.length);
+    }
+
+    /**
+     * helper function to recursively perform quick sort on the given arr after partition
+     *
+     * @param arr the array to perform quick sort on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void quickSort(int[] arr, int l, int r){
+        if(l + 1 >= r){
+            return;
+        }
+
+        int p = partition(arr, l, r);
+        quickSort(arr, l, p);
+        quickSort(arr, p + 1, r);
+    }
+
+    /**
+     * helper function to perform partition on the given arr based on the given range
+     *
+     * @param arr the array to perform partition on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @return the index of the pivot after partition
+     */
+    private static int partition(int[] arr, int l, int r){
+        Utils.swap(arr, l, (int) (Math.random() * (r - l)) + l);
+        int cur = arr[l];
+
+        int lp = l + 1;  // [l...lp) <= v
+        int rp = r;  // [rp...r) >= v
+
+        while(true){
+            while(lp < r && arr[lp] < cur){
+                lp += 1;
+            }
+            while(rp - 1 > l && arr[rp - 1] > cur){
+                rp -= 1;
+            }
+            if(lp >= rp){
+                break;
+            }
+            Utils.swap(arr, lp, rp - 1);
+            lp += 1;
+            rp -= 1;
+        }
+
+        Utils.swap(arr, l, rp - 1);
+        return rp - 1;
+    }
+
+    /**
+     * perform heap sort on given array
+     *
+     * @param arr arr to perform heap sort on
+     */
+    public static void heapSort(int[] arr){
+        for(int i = (arr.length / 2) - 1; i >= 0; i--){
+            shiftDown(arr, i, arr.length);
+        }
+        for(int i = arr.length - 1; i > 0; i--){
+            Utils.swap(arr, 0, i);
+            shiftDown(arr, 0, i);
+        }
+    }
+
+    /**
+     * helper function to perform shift down on the given array
+     *
+     * @param arr array to perform shift down on
+     * @param i   index of the element to perform shift down on
+     * @param sz  the size of the heap array
+     */
+    private static void shiftDown(int[] arr, int i, int sz){
+        while((i * 2 + 1) < sz){  //while i has a left child
+            int maxIndex = i;
+            if(arr[i * 2 + 1] > arr[maxIndex]){
+                maxIndex = i * 2 + 1;
+            }
+            if(i * 2 + 2 < sz && arr[i * 2 + 2] > arr[maxIndex]){
+                //has right child and right child > current node and left child
+                maxIndex = i * 2 + 2;
+            }
+            if(i == maxIndex){
+                break;
+            }
+            Utils.swap(arr, i, maxIndex);
+            i = maxIndex;
+        }
+    }
+
+    /**
+     * determines if the given array is sorted in ascending order
+     *
+     * @param arr given array
+     * @return boolean value
+     */
+    public static boolean isSorted(long[] arr){
+        for(int i = 0; i < arr.length - 1; i++){
+            if(arr[i] > arr[i + 1]){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * perform selection sort on given array
+     *
+     * @param arr given array to sort
+     */
+    public static void selectionSort(long[] arr){
+        for(int i = 0; i < arr.length - 1; i++){
+            int smallest = i;
+            for(int j = i + 1; j < arr.length; j++){
+                if(arr[smallest] > arr[j]){
+                    smallest = j;
+                }
+            }
+            Utils.swap(arr, smallest, i);
+        }
+    }
+
+    /**
+     * perform insertion sort on given array
+     *
+     * @param arr given array to sort
+     */
+    public static void insertionSort(long[] arr){
+        for(int i = 1; i < arr.length; i++){
+            long curElement = arr[i];
+            int j = i;
+            for(; j > 0 && arr[j - 1] > curElement; j--){
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = curElement;
+        }
+    }
+
+    /**
+     * perform merge sort on given array recursively
+     *
+     * @param arr given array to sort
+     */
+    public static void mergeSort(long[] arr){
+        mergeSort(arr, arr.clone(), 0, arr.length);
+    }
+
+    /**
+     * helper function to recursively perform merge sort on the given range of given arr
+     *
+     * @param arr arr to perform merge sort on
+     * @param aux copy of arr for reference
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void mergeSort(long[] arr, long[] aux, int l, int r){
+        if(l + 1 >= r){
+            return;
+        }
+
+        int m = l + ((r - l) / 2);
+        mergeSort(arr, aux, l, m);
+        mergeSort(arr, aux, m, r);
+        merge(arr, aux, l, m, r);
+    }
+
+    /**
+     * helper function to perform merge on the given range [l, m) and [m, r) of given arr
+     *
+     * @param arr arr to perform merge
+     * @param aux copy of arr for reference
+     * @param l   left bound (inclusive)
+     * @param m   mid index
+     * @param r   right bound (non-inclusive)
+     */
+    private static void merge(long[] arr, long[] aux, int l, int m, int r){
+        int i = l;
+        int j = m;
+        for(int k = l; k < r; k++){
+            if(i == m){
+                arr[k] = aux[j++];
+            }else if(j == r){
+                arr[k] = aux[i++];
+            }else if(aux[i] < aux[j]){
+                arr[k] = aux[i++];
+            }else{
+                arr[k] = aux[j++];
+            }
+        }
+
+        System.arraycopy(arr, l, aux, l, r - l);
+    }
+
+    /**
+     * perform merge sort on given array
+     *
+     * @param arr arr to perform merge sort on
+     */
+    public static void mergeSortBottomUp(long[] arr){
+        long[] aux = arr.clone();
+        int n = arr.length;
+
+        for(int sz = 1; sz < n; sz += sz){
+            for(int i = 0; i < n - sz; i += sz + sz){
+                merge(arr, aux, i, i + sz, Math.min(n, i + sz + sz));
+            }
+        }
+    }
+
+    /**
+     * perform quick sort on given array
+     *
+     * @param arr arr to perform quick sort on
+     */
+    public static void quickSort(long[] arr){
+        quickSort(arr, 0, arr.length);
+    }
+
+    /**
+     * helper function to recursively perform quick sort on the given arr after partition
+     *
+     * @param arr the array to perform quick sort on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void quickSort(long[] arr, int l, int r){
+        if(l + 1 >= r){
+            return;
+        }
+
+        int p = partition(arr, l, r);
+        quickSort(arr, l, p);
+        quickSort(arr, p + 1, r);
+    }
+
+    /**
+     * helper function to perform partition on the given arr based on the given range
+     *
+     * @param arr the array to perform partition on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @return the index of the pivot after partition
+     */
+    private static int partition(long[] arr, int l, int r){
+        Utils.swap(arr, l, (int) (Math.random() * (r - l)) + l);
+        long cur = arr[l];
+
+        int lp = l + 1;  // [l...lp) <= v
+        int rp = r;  // [rp...r) >= v
+
+        while(true){
+            while(lp < r && arr[lp] < cur){
+                lp += 1;
+            }
+            while(rp - 1 > l && arr[rp - 1] > cur){
+                rp -= 1;
+            }
+            if(lp >= rp){
+                break;
+            }
+            Utils.swap(arr, lp, rp - 1);
+            lp += 1;
+            rp -= 1;
+        }
+
+        Utils.swap(arr, l, rp - 1);
+        return rp - 1;
+    }
+
+    /**
+     * perform heap sort on given array
+     *
+     * @param arr arr to perform heap sort on
+     */
+    public static void heapSort(long[] arr){
+        for(int i = (arr.length / 2) - 1; i >= 0; i--){
+            shiftDown(arr, i, arr.length);
+        }
+        for(int i = arr.length - 1; i > 0; i--){
+            Utils.swap(arr, 0, i);
+            shiftDown(arr, 0, i);
+        }
+    }
+
+    /**
+     * helper function to perform shift down on the given array
+     *
+     * @param arr array to perform shift down on
+     * @param i   index of the element to perform shift down on
+     * @param sz  the size of the heap array
+     */
+    private static void shiftDown(long[] arr, int i, int sz){
+        while((i * 2 + 1) < sz){  //while i has a left child
+            int maxIndex = i;
+            if(arr[i * 2 + 1] > arr[maxIndex]){
+                maxIndex = i * 2 + 1;
+            }
+            if(i * 2 + 2 < sz && arr[i * 2 + 2] > arr[maxIndex]){
+                //has right child and right child > current node and left child
+                maxIndex = i * 2 + 2;
+            }
+            if(i == maxIndex){
+                break;
+            }
+            Utils.swap(arr, i, maxIndex);
+            i = maxIndex;
+        }
+    }
+
+    /**
+     * determines if the given array is sorted in ascending order
+     *
+     * @param arr given array
+     * @return boolean value
+     */
+    public static boolean isSorted(double[] arr){
+        for(int i = 0; i < arr.length - 1; i++){
+            if(Double.compare(arr[i], arr[i + 1]) > 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * perform selection sort on given array
+     *
+     * @param arr given array to sort
+     */
+    public static void selectionSort(double[] arr){
+        for(int i = 0; i < arr.length - 1; i++){
+            int smallest = i;
+            for(int j = i + 1; j < arr.length; j++){
+                if(Double.compare(arr[smallest], arr[j]) > 0){
+                    smallest = j;
+                }
+            }
+            Utils.swap(arr, smallest, i);
+        }
+    }
+
+    /**
+     * perform insertion sort on given array
+     *
+     * @param arr given array to sort
+     */
+    public static void insertionSort(double[] arr){
+        for(int i = 1; i < arr.length; i++){
+            double curElement = arr[i];
+            int j = i;
+            for(; j > 0 && Double.compare(arr[j - 1], curElement) > 0; j--){
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = curElement;
+        }
+    }
+
+    /**
+     * perform merge sort on given array recursively
+     *
+     * @param arr given array to sort
+     */
+    public static void mergeSort(double[] arr){
+        mergeSort(arr, arr.clone(), 0, arr.length);
+    }
+
+    /**
+     * helper function to recursively perform merge sort on the given range of given arr
+     *
+     * @param arr arr to perform merge sort on
+     * @param aux copy of arr for reference
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void mergeSort(double[] arr, double[] aux, int l, int r){
+        if(l + 1 >= r){
+            return;
+        }
+
+        int m = l + ((r - l) / 2);
+        mergeSort(arr, aux, l, m);
+        mergeSort(arr, aux, m, r);
+        merge(arr, aux, l, m, r);
+    }
+
+    /**
+     * helper function to perform merge on the given range [l, m) and [m, r) of given arr
+     *
+     * @param arr arr to perform merge
+     * @param aux copy of arr for reference
+     * @param l   left bound (inclusive)
+     * @param m   mid index
+     * @param r   right bound (non-inclusive)
+     */
+    private static void merge(double[] arr, double[] aux, int l, int m, int r){
+        int i = l;
+        int j = m;
+        for(int k = l; k < r; k++){
+            if(i == m){
+                arr[k] = aux[j++];
+            }else if(j == r){
+                arr[k] = aux[i++];
+            }else if(Double.compare(aux[i], aux[j]) < 0){
+                arr[k] = aux[i++];
+            }else{
+                arr[k] = aux[j++];
+            }
+        }
+
+        System.arraycopy(arr, l, aux, l, r - l);
+    }
+
+    /**
+     * perform merge sort on given array
+     *
+     * @param arr arr to perform merge sort on
+     */
+    public static void mergeSortBottomUp(double[] arr){
+        double[] aux = arr.clone();
+        int n = arr.length;
+
+        for(int sz = 1; sz < n; sz += sz){
+            for(int i = 0; i < n - sz; i += sz + sz){
+                merge(arr, aux, i, i + sz, Math.min(n, i + sz + sz));
+            }
+        }
+    }
+
+    /**
+     * perform quick sort on given array
+     *
+     * @param arr arr to perform quick sort on
+     */
+    public static void quickSort(double[] arr){
+        quickSort(arr, 0, arr.length);
+    }
+
+    /**
+     * helper function to recursively perform quick sort on the given arr after partition
+     *
+     * @param arr the array to perform quick sort on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     */
+    private static void quickSort(double[] arr, int l, int r){
+        if(l + 1 >= r){
+            return;
+        }
+
+        int p = partition(arr, l, r);
+        quickSort(arr, l, p);
+        quickSort(arr, p + 1, r);
+    }
+
+    /**
+     * helper function to perform partition on the given arr based on the given range
+     *
+     * @param arr the array to perform partition on
+     * @param l   left bound (inclusive)
+     * @param r   right bound (non-inclusive)
+     * @return the index of the pivot after partition
+     */
+    private static int partition(double[] arr, int l, int r){
+        Utils.swap(arr, l, (int) (Math.random() * (r - l)) + l);
+        double cur = arr[l];
+
+        int lp = l + 1;  // [l...lp) <= v
+        int rp = r;  // [rp...r) >= v
+
+        while(true){
+            while(lp < r && Double.compare(arr[lp], cur) < 0){
+                lp += 1;
+            }
+            while(rp - 1 > l && Double.compare(arr[rp - 1], cur) > 0){
+                rp -= 1;
+            }
+            if(lp >= rp){
+                break;
+            }
+            Utils.swap(arr, lp, rp - 1);
+            lp += 1;
+            rp -= 1;
+        }
+
+        Utils.swap(arr, l, rp - 1);
+        return rp - 1;
+    }
+
+    /**
+     * perform heap sort on given array
+     *
+     * @param arr arr to perform heap sort on
+     */
+    public static void heapSort(double[] arr){
+        for(int i = (arr.length / 2) - 1; i >= 0; i--){
+            shiftDown(arr, i, arr.length);
+        }
+        for(int i = arr.length - 1; i > 0; i--){
+            Utils.swap(arr, 0, i);
+            shiftDown(arr, 0, i);
+        }
+    }
+
+    /**
+     * helper function to perform shift down on the given array
+     *
+     * @param arr array to perform shift down on
+     * @param i   index of the element to perform shift down on
+     * @param sz  the size of the heap array
+     */
+    private static void shiftDown(double[] arr, int i, int sz){
+        while((i * 2 + 1) < sz){  //while i has a left child
+            int maxIndex = i;
+            if(Double.compare(arr[i * 2 + 1], arr[maxIndex]) > 0){
+                maxIndex = i * 2 + 1;
+            }
+            if(i * 2 + 2 < sz && Double.compare(arr[i * 2 + 2], arr[maxIndex]) > 0){
+                //has right child and right child > current node and left child
+                maxIndex = i * 2 + 2;
+            }
+            if(i == maxIndex){
+                break;
+            }
+            Utils.swap(arr, i, maxIndex);
+            i = maxIndex;
+        }
+    }
+
+    /**
+     * ranges at or below this size are sorted and merged sequentially by parallel merge sort
+     */
+    private static final int PARALLEL_CUTOFF = 1 << 13;
+
+    /**
+     * perform merge sort on given array in parallel on the common fork/join pool
+     *
+     * @param arr given array to sort, expected to support fast random access
+     * @param <T> the type of data
+     */
+    public static <T extends Comparable<T>> void parallelMergeSort(List<T> arr){
+        parallelMergeSort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * perform merge sort on given array in parallel on the given fork/join pool
+     *
+     * @param arr  given array to sort, expected to support fast random access
+     * @param pool the pool to run on
+     * @param <T>  the type of data
+     */
+    public static <T extends Comparable<T>> void parallelMergeSort(List<T> arr, ForkJoinPool pool){
+        pool.invoke(new MergeSortTask<>(arr, new ArrayList<>(arr), 0, arr.size()));
+    }
+
+    /**
+     * perform merge sort on given array in parallel on the common fork/join pool
+     *
+     * @param arr given array to sort
+     */
+    public static void parallelMergeSort(int[] arr){
+        parallelMergeSort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * perform merge sort on given array in parallel on the given fork/join pool
+     *
+     * @param arr  given array to sort
+     * @param pool the pool to run on
+     */
+    public static void parallelMergeSort(int[] arr, ForkJoinPool pool){
+        pool.invoke(new IntMergeSortTask(arr, arr.clone(), 0, arr.length));
+    }
+
+    /**
+     * represents a task that merge sorts the range [l, r) of arr, keeping aux as a copy of arr like mergeSort does
+     *
+     * @param <T> the type of data
+     */
+    private static class MergeSortTask<T extends Comparable<T>> extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<T> arr;
+        private final transient List<T> aux;
+        private final int l;
+        private final int r;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to perform merge sort on
+         * @param aux copy of arr for reference
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         */
+        private MergeSortTask(List<T> arr, List<T> aux, int l, int r){
+            this.arr = arr;
+            this.aux = aux;
+            this.l = l;
+            this.r = r;
+        }
+
+        /**
+         * sort both halves in parallel, then merge them in parallel and copy the result back to aux
+         */
+        @Override
+        protected void compute(){
+            if(this.r - this.l <= PARALLEL_CUTOFF){
+                mergeSort(this.arr, this.aux, this.l, this.r);
+                return;
+            }
+            int m = this.l + ((this.r - this.l) / 2);
+            invokeAll(new MergeSortTask<>(this.arr, this.aux, this.l, m),
+                    new MergeSortTask<>(this.arr, this.aux, m, this.r));
+            new MergeTask<>(this.arr, this.aux, this.l, m, m, this.r, this.l).invoke();
+            new CopyTask<>(this.arr, this.aux, this.l, this.r).invoke();
+        }
+    }
+
+    /**
+     * represents a task that merges the sorted ranges [l1, r1) and [l2, r2) of aux into arr starting at k.
+     * the larger range is split at its middle element, which is binary searched in the other range so that
+     * both halves can be merged independently.
+     *
+     * @param <T> the type of data
+     */
+    private static class MergeTask<T extends Comparable<T>> extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<T> arr;
+        private final transient List<T> aux;
+        private final int l1;
+        private final int r1;
+        private final int l2;
+        private final int r2;
+        private final int k;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to write the merged result into
+         * @param aux arr holding both sorted ranges
+         * @param l1  left bound of first range (inclusive)
+         * @param r1  right bound of first range (non-inclusive)
+         * @param l2  left bound of second range (inclusive)
+         * @param r2  right bound of second range (non-inclusive)
+         * @param k   index in arr to start writing at
+         */
+        private MergeTask(List<T> arr, List<T> aux, int l1, int r1, int l2, int r2, int k){
+            this.arr = arr;
+            this.aux = aux;
+            this.l1 = l1;
+            this.r1 = r1;
+            this.l2 = l2;
+            this.r2 = r2;
+            this.k = k;
+        }
+
+        /**
+         * merge sequentially if the ranges are small, otherwise split and merge both halves in parallel
+         */
+        @Override
+        protected void compute(){
+            int n1 = this.r1 - this.l1;
+            int n2 = this.r2 - this.l2;
+            if(n1 + n2 <= PARALLEL_CUTOFF){
+                int i = this.l1;
+                int j = this.l2;
+                for(int k = this.k; k < this.k + n1 + n2; k++){
+                    if(i == this.r1){
+                        this.arr.set(k, this.aux.get(j++));
+                    }else if(j == this.r2){
+                        this.arr.set(k, this.aux.get(i++));
+                    }else if(this.aux.get(j).compareTo(this.aux.get(i)) < 0){
+                        this.arr.set(k, this.aux.get(j++));
+                    }else{
+                        this.arr.set(k, this.aux.get(i++));
+                    }
+                }
+                return;
+            }
+            if(n1 >= n2){
+                int m1 = this.l1 + n1 / 2;
+                T pivot = this.aux.get(m1);
+                int m2 = this.l2;  // first index in [l2, r2) not smaller than pivot
+                for(int hi = this.r2; m2 < hi; ){
+                    int mid = m2 + (hi - m2) / 2;
+                    if(this.aux.get(mid).compareTo(pivot) < 0){
+                        m2 = mid + 1;
+                    }else{
+                        hi = mid;
+                    }
+                }
+                int km = this.k + (m1 - this.l1) + (m2 - this.l2);
+                this.arr.set(km, pivot);
+                invokeAll(new MergeTask<>(this.arr, this.aux, this.l1, m1, this.l2, m2, this.k),
+                        new MergeTask<>(this.arr, this.aux, m1 + 1, this.r1, m2, this.r2, km + 1));
+            }else{
+                int m2 = this.l2 + n2 / 2;
+                T pivot = this.aux.get(m2);
+                int m1 = this.l1;  // first index in [l1, r1) greater than pivot
+                for(int hi = this.r1; m1 < hi; ){
+                    int mid = m1 + (hi - m1) / 2;
+                    if(this.aux.get(mid).compareTo(pivot) <= 0){
+                        m1 = mid + 1;
+                    }else{
+                        hi = mid;
+                    }
+                }
+                int km = this.k + (m1 - this.l1) + (m2 - this.l2);
+                this.arr.set(km, pivot);
+                invokeAll(new MergeTask<>(this.arr, this.aux, this.l1, m1, this.l2, m2, this.k),
+                        new MergeTask<>(this.arr, this.aux, m1, this.r1, m2 + 1, this.r2, km + 1));
+            }
+        }
+    }
+
+    /**
+     * represents a task that copies the range [l, r) of arr back into aux
+     *
+     * @param <T> the type of data
+     */
+    private static class CopyTask<T> extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<T> arr;
+        private final transient List<T> aux;
+        private final int l;
+        private final int r;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to copy from
+         * @param aux arr to copy into
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         */
+        private CopyTask(List<T> arr, List<T> aux, int l, int r){
+            this.arr = arr;
+            this.aux = aux;
+            this.l = l;
+            this.r = r;
+        }
+
+        /**
+         * copy sequentially if the range is small, otherwise copy both halves in parallel
+         */
+        @Override
+        protected void compute(){
+            if(this.r - this.l <= PARALLEL_CUTOFF){
+                for(int i = this.l; i < this.r; i++){
+                    this.aux.set(i, this.arr.get(i));
+                }
+                return;
+            }
+            int m = this.l + ((this.r - this.l) / 2);
+            invokeAll(new CopyTask<>(this.arr, this.aux, this.l, m), new CopyTask<>(this.arr, this.aux, m, this.r));
+        }
+    }
+
+    /**
+     * represents a task that merge sorts the range [l, r) of an int array, keeping aux as a copy of arr
+     */
+    private static class IntMergeSortTask extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[] aux;
+        private final int l;
+        private final int r;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to perform merge sort on
+         * @param aux copy of arr for reference
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         */
+        private IntMergeSortTask(int[] arr, int[] aux, int l, int r){
+            this.arr = arr;
+            this.aux = aux;
+            this.l = l;
+            this.r = r;
+        }
+
+        /**
+         * sort both halves in parallel, then merge them in parallel and copy the result back to aux
+         */
+        @Override
+        protected void compute(){
+            if(this.r - this.l <= PARALLEL_CUTOFF){
+                mergeSort(this.arr, this.aux, this.l, this.r);
+                return;
+            }
+            int m = this.l + ((this.r - this.l) / 2);
+            invokeAll(new IntMergeSortTask(this.arr, this.aux, this.l, m),
+                    new IntMergeSortTask(this.arr, this.aux, m, this.r));
+            new IntMergeTask(this.arr, this.aux, this.l, m, m, this.r, this.l).invoke();
+            new IntCopyTask(this.arr, this.aux, this.l, this.r).invoke();
+        }
+    }
+
+    /**
+     * represents a task that merges the sorted ranges [l1, r1) and [l2, r2) of aux into arr starting at k
+     */
+    private static class IntMergeTask extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[] aux;
+        private final int l1;
+        private final int r1;
+        private final int l2;
+        private final int r2;
+        private final int k;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to write the merged result into
+         * @param aux arr holding both sorted ranges
+         * @param l1  left bound of first range (inclusive)
+         * @param r1  right bound of first range (non-inclusive)
+         * @param l2  left bound of second range (inclusive)
+         * @param r2  right bound of second range (non-inclusive)
+         * @param k   index in arr to start writing at
+         */
+        private IntMergeTask(int[] arr, int[] aux, int l1, int r1, int l2, int r2, int k){
+            this.arr = arr;
+            this.aux = aux;
+            this.l1 = l1;
+            this.r1 = r1;
+            this.l2 = l2;
+            this.r2 = r2;
+            this.k = k;
+        }
+
+        /**
+         * merge sequentially if the ranges are small, otherwise split and merge both halves in parallel
+         */
+        @Override
+        protected void compute(){
+            int n1 = this.r1 - this.l1;
+            int n2 = this.r2 - this.l2;
+            if(n1 + n2 <= PARALLEL_CUTOFF){
+                int i = this.l1;
+                int j = this.l2;
+                for(int k = this.k; k < this.k + n1 + n2; k++){
+                    if(i == this.r1){
+                        this.arr[k] = this.aux[j++];
+                    }else if(j == this.r2){
+                        this.arr[k] = this.aux[i++];
+                    }else if(this.aux[j] < this.aux[i]){
+                        this.arr[k] = this.aux[j++];
+                    }else{
+                        this.arr[k] = this.aux[i++];
+                    }
+                }
+                return;
+            }
+            if(n1 >= n2){
+                int m1 = this.l1 + n1 / 2;
+                int pivot = this.aux[m1];
+                int m2 = this.l2;  // first index in [l2, r2) not smaller than pivot
+                for(int hi = this.r2; m2 < hi; ){
+                    int mid = m2 + (hi - m2) / 2;
+                    if(this.aux[mid] < pivot){
+                        m2 = mid + 1;
+                    }else{
+                        hi = mid;
+                    }
+                }
+                int km = this.k + (m1 - this.l1) + (m2 - this.l2);
+                this.arr[km] = pivot;
+                invokeAll(new IntMergeTask(this.arr, this.aux, this.l1, m1, this.l2, m2, this.k),
+                        new IntMergeTask(this.arr, this.aux, m1 + 1, this.r1, m2, this.r2, km + 1));
+            }else{
+                int m2 = this.l2 + n2 / 2;
+                int pivot = this.aux[m2];
+                int m1 = this.l1;  // first index in [l1, r1) greater than pivot
+                for(int hi = this.r1; m1 < hi; ){
+                    int mid = m1 + (hi - m1) / 2;
+                    if(this.aux[mid] <= pivot){
+                        m1 = mid + 1;
+                    }else{
+                        hi = mid;
+                    }
+                }
+                int km = this.k + (m1 - this.l1) + (m2 - this.l2);
+                this.arr[km] = pivot;
+                invokeAll(new IntMergeTask(this.arr, this.aux, this.l1, m1, this.l2, m2, this.k),
+                        new IntMergeTask(this.arr, this.aux, m1, this.r1, m2 + 1, this.r2, km + 1));
+            }
+        }
+    }
+
+    /**
+     * represents a task that copies the range [l, r) of an int array back into aux
+     */
+    private static class IntCopyTask extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[] aux;
+        private final int l;
+        private final int r;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to copy from
+         * @param aux arr to copy into
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         */
+        private IntCopyTask(int[] arr, int[] aux, int l, int r){
+            this.arr = arr;
+            this.aux = aux;
+            this.l = l;
+            this.r = r;
+        }
+
+        /**
+         * copy sequentially if the range is small, otherwise copy both halves in parallel
+         */
+        @Override
+        protected void compute(){
+            if(this.r - this.l <= PARALLEL_CUTOFF){
+                System.arraycopy(this.arr, this.l, this.aux, this.l, this.r - this.l);
+                return;
+            }
+            int m = this.l + ((this.r - this.l) / 2);
+            invokeAll(new IntCopyTask(this.arr, this.aux, this.l, m), new IntCopyTask(this.arr, this.aux, m, this.r));
+        }
+    }
+
+    /**
+     * represents the stack of pending runs of adaptive merge sort. run lengths on the stack are kept
+     * growing at least as fast as the fibonacci numbers, so the stack stays shallow and merges stay balanced.
+     *
+     * @param <T> the type of data
+     */
+    private static class RunStack<T extends Comparable<T>>{
+
+        /**
+         * enough for any array whose size fits in an int
+         */
+        private static final int MAX_RUNS = 49;
+
+        private final List<T> arr;
+
+        /**
+         * buffer holding a copy of the left run while it is being merged
+         */
+        private final ArrayList<T> tmp;
+
+        private final int[] runBase;
+        private final int[] runLen;
+        private int size;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr being sorted
+         */
+        private RunStack(List<T> arr){
+            this.arr = arr;
+            this.tmp = new ArrayList<>();
+            this.runBase = new int[MAX_RUNS];
+            this.runLen = new int[MAX_RUNS];
+            this.size = 0;
+        }
+
+        /**
+         * push a sorted run onto the stack
+         *
+         * @param base start of the run
+         * @param len  length of the run
+         */
+        private void push(int base, int len){
+            this.runBase[this.size] = base;
+            this.runLen[this.size] = len;
+            this.size += 1;
+        }
+
+        /**
+         * merge runs until the top of the stack satisfies len[i - 2] &gt; len[i - 1] + len[i] and len[i - 1] &gt; len[i]
+         */
+        private void mergeCollapse(){
+            while(this.size > 1){
+                int n = this.size - 2;
+                if(n > 0 && this.runLen[n - 1] <= this.runLen[n] + this.runLen[n + 1]
+                        || n > 1 && this.runLen[n - 2] <= this.runLen[n - 1] + this.runLen[n]){
+                    if(this.runLen[n - 1] < this.runLen[n + 1]){
+                        n -= 1;
+                    }
+                }else if(this.runLen[n] > this.runLen[n + 1]){
+                    break;
+                }
+                this.mergeAt(n);
+            }
+        }
+
+        /**
+         * merge all runs on the stack into one
+         */
+        private void mergeForceCollapse(){
+            while(this.size > 1){
+                int n = this.size - 2;
+                if(n > 0 && this.runLen[n - 1] < this.runLen[n + 1]){
+                    n -= 1;
+                }
+                this.mergeAt(n);
+            }
+        }
+
+        /**
+         * merge the runs at index i and i + 1 of the stack. the prefix of the first run that is not greater than
+         * the head of the second run, and the suffix of the second run that is not smaller than the tail of the
+         * first run, are already in place and skipped.
+         *
+         * @param i index of the first run
+         */
+        private void mergeAt(int i){
+            int base1 = this.runBase[i];
+            int len1 = this.runLen[i];
+            int base2 = this.runBase[i + 1];
+            int len2 = this.runLen[i + 1];
+
+            this.runLen[i] = len1 + len2;
+            if(i == this.size - 3){
+                this.runBase[i + 1] = this.runBase[i + 2];
+                this.runLen[i + 1] = this.runLen[i + 2];
+            }
+            this.size -= 1;
+
+            int k = gallopRight(this.arr.get(base2), this.arr, base1, len1);
+            base1 += k;
+            len1 -= k;
+            if(len1 == 0){
+                return;
+            }
+            len2 = gallopLeft(this.arr.get(base1 + len1 - 1), this.arr, base2, len2);
+            if(len2 == 0){
+                return;
+            }
+            this.mergeLo(base1, len1, base2, len2);
+        }
+
+        /**
+         * merge two adjacent runs by copying the first one into tmp and merging forward. once one run wins
+         * MIN_GALLOP times in a row, switch to galloping and move whole blocks from that run at once.
+         *
+         * @param base1 start of the first run
+         * @param len1  length of the first run
+         * @param base2 start of the second run, equal to base1 + len1
+         * @param len2  length of the second run
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2){
+            this.tmp.clear();
+            this.tmp.addAll(this.arr.subList(base1, base1 + len1));
+
+            int cursor1 = 0;  // next element of the first run in tmp
+            int cursor2 = base2;  // next element of the second run in arr
+            int end2 = base2 + len2;
+            int dest = base1;  // next slot to fill, never passes cursor2
+            while(cursor1 < len1 && cursor2 < end2){
+                int count1 = 0;
+                int count2 = 0;
+                while(cursor1 < len1 && cursor2 < end2 && count1 < MIN_GALLOP && count2 < MIN_GALLOP){
+                    if(this.arr.get(cursor2).compareTo(this.tmp.get(cursor1)) < 0){
+                        this.arr.set(dest++, this.arr.get(cursor2++));
+                        count2 += 1;
+                        count1 = 0;
+                    }else{
+                        this.arr.set(dest++, this.tmp.get(cursor1++));
+                        count1 += 1;
+                        count2 = 0;
+                    }
+                }
+
+                while(cursor1 < len1 && cursor2 < end2){
+                    count1 = gallopRight(this.arr.get(cursor2), this.tmp, cursor1, len1 - cursor1);
+                    for(int j = 0; j < count1; j++){
+                        this.arr.set(dest++, this.tmp.get(cursor1++));
+                    }
+                    if(cursor1 == len1){
+                        break;
+                    }
+                    count2 = gallopLeft(this.tmp.get(cursor1), this.arr, cursor2, end2 - cursor2);
+                    for(int j = 0; j < count2; j++){
+                        this.arr.set(dest++, this.arr.get(cursor2++));
+                    }
+                    if(count1 < MIN_GALLOP && count2 < MIN_GALLOP){
+                        break;  // galloping no longer pays off
+                    }
+                }
+            }
+            while(cursor1 < len1){  // the rest of the second run is already in place
+                this.arr.set(dest++, this.tmp.get(cursor1++));
+            }
+        }
+    }
+
+    /**
+     * represents a task that counts, for every byte of the keys in [l, r) of an int array, how many keys
+     * have each value of that byte
+     */
+    private static class IntHistogramTask extends RecursiveTask<int[][]>{
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int l;
+        private final int r;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to count
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         */
+        private IntHistogramTask(int[] arr, int l, int r){
+            this.arr = arr;
+            this.l = l;
+            this.r = r;
+        }
+
+        /**
+         * count the given range sequentially
+         *
+         * @param arr arr to count
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         * @return count[pass][byte]
+         */
+        private static int[][] histogram(int[] arr, int l, int r){
+            int[][] count = new int[Integer.BYTES][RADIX];
+            for(int i = l; i < r; i++){
+                int key = arr[i] ^ Integer.MIN_VALUE;
+                for(int pass = 0; pass < Integer.BYTES; pass++){
+                    count[pass][(key >>> (pass * 8)) & 0xFF]++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * count sequentially if the range is small, otherwise count both halves in parallel and add them up
+         *
+         * @return count[pass][byte]
+         */
+        @Override
+        protected int[][] compute(){
+            if(this.r - this.l <= PARALLEL_HISTOGRAM_THRESHOLD){
+                return histogram(this.arr, this.l, this.r);
+            }
+            int m = this.l + ((this.r - this.l) / 2);
+            IntHistogramTask left = new IntHistogramTask(this.arr, this.l, m);
+            left.fork();
+            int[][] count = new IntHistogramTask(this.arr, m, this.r).compute();
+            int[][] leftCount = left.join();
+            for(int pass = 0; pass < Integer.BYTES; pass++){
+                for(int b = 0; b < RADIX; b++){
+                    count[pass][b] += leftCount[pass][b];
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * represents a task that counts, for every byte of the keys in [l, r) of a long array, how many keys
+     * have each value of that byte
+     */
+    private static class LongHistogramTask extends RecursiveTask<int[][]>{
+        private static final long serialVersionUID = 1L;
+
+        private final long[] arr;
+        private final int l;
+        private final int r;
+
+        /**
+         * default constructor
+         *
+         * @param arr arr to count
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         */
+        private LongHistogramTask(long[] arr, int l, int r){
+            this.arr = arr;
+            this.l = l;
+            this.r = r;
+        }
+
+        /**
+         * count the given range sequentially
+         *
+         * @param arr arr to count
+         * @param l   left bound (inclusive)
+         * @param r   right bound (non-inclusive)
+         * @return count[pass][byte]
+         */
+        private static int[][] histogram(long[] arr, int l, int r){
+            int[][] count = new int[Long.BYTES][RADIX];
+            for(int i = l; i < r; i++){
+                long key = arr[i] ^ Long.MIN_VALUE;
+                for(int pass = 0; pass < Long.BYTES; pass++){
+                    count[pass][(int) (key >>> (pass * 8)) & 0xFF]++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * count sequentially if the range is small, otherwise count both halves in parallel and add them up
+         *
+         * @return count[pass][byte]
+         */
+        @Override
+        protected int[][] compute(){
+            if(this.r - this.l <= PARALLEL_HISTOGRAM_THRESHOLD){
+                return histogram(this.arr, this.l, this.r);
+            }
+            int m = this.l + ((this.r - this.l) / 2);
+            LongHistogramTask left = new LongHistogramTask(this.arr, this.l, m);
+            left.fork();
+            int[][] count = new LongHistogramTask(this.arr, m, this.r).compute();
+            int[][] leftCount = left.join();
+            for(int pass = 0; pass < Long.BYTES; pass++){
+                for(int b = 0; b < RADIX; b++){
+                    count[pass][b] += leftCount[pass][b];
+                }
+            }
+            return count;
+        }
+    }
 }
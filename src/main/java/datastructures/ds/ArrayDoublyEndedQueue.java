@@ -0,0 +1,403 @@
+package datastructures.ds;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * represents a data structure of doubly ended queue backed by a circular array.
+ * unlike DoublyEndedQueue, inserting does not allocate a node per element; the array doubles
+ * when full and its capacity is always a power of two, so positions wrap with a bit mask.
+ *
+ * @param <T> type of data
+ */
+public class ArrayDoublyEndedQueue<T> implements Iterable<T>{
+
+    /**
+     * capacity of a DEQ created without a hint
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * largest capacity, the largest power of two an array can hold
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * circular array holding the elements, with empty slots kept null
+     */
+    protected Object[] elements;
+
+    /**
+     * index of the first element
+     */
+    protected int head;
+
+    /**
+     * represent the number of elements
+     */
+    private int count;
+
+    /**
+     * default constructor to create an empty DEQ
+     */
+    public ArrayDoublyEndedQueue(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructor to create an empty DEQ that holds at least the given number of elements before growing
+     *
+     * @param capacity expected number of elements, at most 2^30
+     */
+    public ArrayDoublyEndedQueue(int capacity){
+        if(capacity < 0){
+            throw new IllegalArgumentException("capacity cannot be negative!");
+        }
+        if(capacity > MAX_CAPACITY){
+            throw new IllegalArgumentException("capacity cannot exceed 2^30!");
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, 1));
+        this.elements = new Object[size < capacity ? size << 1 : size];
+        this.head = 0;
+        this.count = 0;
+    }
+
+    /**
+     * convenient constrcutor to create a DEQ with given list of elements
+     *
+     * @param elements list of elements to insert
+     */
+    public ArrayDoublyEndedQueue(List<T> elements){
+        this(elements.size());
+        for(T element : elements){
+            this.elements[this.count++] = element;
+        }
+    }
+
+    /**
+     * get the size of DEQ
+     *
+     * @return size in int
+     */
+    public int size(){
+        return this.count;
+    }
+
+    /**
+     * check if DEQ is empty
+     *
+     * @return true if DEQ is empty
+     */
+    public boolean isEmpty(){
+        return this.size() == 0;
+    }
+
+    /**
+     * helper method to get the slot of the i-th element from head
+     *
+     * @param i index from head
+     * @return index in the array
+     */
+    private int slot(int i){
+        return (this.head + i) & (this.elements.length - 1);
+    }
+
+    /**
+     * helper method to get the i-th element from head
+     *
+     * @param i index from head
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    private T elementAt(int i){
+        return (T) this.elements[this.slot(i)];
+    }
+
+    /**
+     * helper method to double the capacity, unwrapping the elements to start at index 0
+     */
+    private void grow(){
+        int capacity = this.elements.length;
+        if(capacity == MAX_CAPACITY){
+            throw new IllegalStateException("DEQ is too large!");
+        }
+        Object[] grown = new Object[capacity << 1];
+        int firstPart = capacity - this.head;
+        System.arraycopy(this.elements, this.head, grown, 0, firstPart);
+        System.arraycopy(this.elements, 0, grown, firstPart, this.head);
+        this.elements = grown;
+        this.head = 0;
+    }
+
+    /**
+     * represents an iterator over the circular array
+     */
+    private class ArrayIterator implements Iterator<T>{
+        private int index;
+        private final boolean reverse;
+
+        /**
+         * default constructor for array iterator
+         *
+         * @param reverse reverse flag
+         */
+        private ArrayIterator(boolean reverse){
+            this.reverse = reverse;
+            this.index = 0;
+        }
+
+        /**
+         * check if iterator has next element
+         *
+         * @return true if next element exists
+         */
+        @Override
+        public boolean hasNext(){
+            return this.index < ArrayDoublyEndedQueue.this.count;
+        }
+
+        /**
+         * get the next element and update iterator
+         *
+         * @return next element
+         */
+        @Override
+        public T next(){
+            int i = this.reverse ? ArrayDoublyEndedQueue.this.count - 1 - this.index : this.index;
+            this.index += 1;
+            return ArrayDoublyEndedQueue.this.elementAt(i);
+        }
+    }
+
+    /**
+     * get the iterator of DEQ
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return new ArrayIterator(false);
+    }
+
+    /**
+     * get reversed iterator of DEQ
+     *
+     * @return reversed iterator
+     */
+    public Iterator<T> reverseIterator(){
+        return new ArrayIterator(true);
+    }
+
+    /**
+     * insert element at the start of the DEQ
+     *
+     * @param element new element
+     */
+    public void insertFirst(T element){
+        if(this.count == this.elements.length){
+            this.grow();
+        }
+        this.head = (this.head - 1) & (this.elements.length - 1);
+        this.elements[this.head] = element;
+        this.count += 1;
+    }
+
+    /**
+     * insert element at the end of the DEQ
+     *
+     * @param element new element
+     */
+    public void insertLast(T element){
+        if(this.count == this.elements.length){
+            this.grow();
+        }
+        this.elements[this.slot(this.count)] = element;
+        this.count += 1;
+    }
+
+    /**
+     * peek element at the start of the DEQ
+     *
+     * @return first element
+     */
+    public T peekFirst(){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("Cannot peek an empty DEQ!");
+        }
+        return this.elementAt(0);
+    }
+
+    /**
+     * peek element at the last of the DEQ
+     *
+     * @return last element
+     */
+    public T peekLast(){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("Cannot peek an empty DEQ!");
+        }
+        return this.elementAt(this.count - 1);
+    }
+
+    /**
+     * update value of first element in DEQ
+     *
+     * @param newValue new value
+     */
+    public void updateFirst(T newValue){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("cannot update an empty DEQ!");
+        }
+        this.elements[this.head] = newValue;
+    }
+
+    /**
+     * update value of last element in DEQ
+     *
+     * @param newValue new value
+     */
+    public void updateLast(T newValue){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("cannot update an empty DEQ!");
+        }
+        this.elements[this.slot(this.count - 1)] = newValue;
+    }
+
+    /**
+     * find the first occurrence of given element and update the value
+     *
+     * @param element  given element
+     * @param newValue new value
+     * @return true if found and updated, false if not found
+     */
+    public boolean update(T element, T newValue){
+        int i = this.indexOf(element);
+        if(i < 0){
+            return false;
+        }
+        this.elements[this.slot(i)] = newValue;
+        return true;
+    }
+
+    /**
+     * get and remove the first element of DEQ
+     *
+     * @return first element
+     */
+    public T removeFirst(){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("cannot remove from empty DEQ!");
+        }
+        T ret = this.elementAt(0);
+        this.elements[this.head] = null;
+        this.head = this.slot(1);
+        this.count -= 1;
+        return ret;
+    }
+
+    /**
+     * get and remove the last element of DEQ
+     *
+     * @return last element
+     */
+    public T removeLast(){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("cannot remove from empty DEQ!");
+        }
+        int last = this.slot(this.count - 1);
+        @SuppressWarnings("unchecked")
+        T ret = (T) this.elements[last];
+        this.elements[last] = null;
+        this.count -= 1;
+        return ret;
+    }
+
+    /**
+     * helper method to find the index from head of the first occurrence of the given item
+     *
+     * @param item item to find
+     * @return index from head, or -1 if not found
+     */
+    private int indexOf(T item){
+        for(int i = 0; i < this.count; i++){
+            if(this.elementAt(i).equals(item)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * check if DEQ contains given item
+     *
+     * @param item item to check
+     * @return true if DEQ contains the item
+     */
+    public boolean contains(T item){
+        return this.indexOf(item) >= 0;
+    }
+
+    /**
+     * remove first occurrence of the given item, shifting whichever side of it is shorter
+     *
+     * @param item item to check
+     * @return true if removed successfully, false if given item not found
+     */
+    public boolean remove(T item){
+        int i = this.indexOf(item);
+        if(i < 0){
+            return false;
+        }
+        if(i < this.count / 2){
+            for(int j = i; j > 0; j--){
+                this.elements[this.slot(j)] = this.elements[this.slot(j - 1)];
+            }
+            this.removeFirst();
+        }else{
+            for(int j = i; j < this.count - 1; j++){
+                this.elements[this.slot(j)] = this.elements[this.slot(j + 1)];
+            }
+            this.removeLast();
+        }
+        return true;
+    }
+
+    /**
+     * clear the DEQ
+     */
+    public void clear(){
+        for(int i = 0; i < this.count; i++){
+            this.elements[this.slot(i)] = null;
+        }
+        this.head = 0;
+        this.count = 0;
+    }
+
+    /**
+     * reverse the order of DEQ
+     */
+    public void reverse(){
+        for(int i = 0, j = this.count - 1; i < j; i++, j--){
+            int a = this.slot(i);
+            int b = this.slot(j);
+            Object temp = this.elements[a];
+            this.elements[a] = this.elements[b];
+            this.elements[b] = temp;
+        }
+    }
+
+    /**
+     * get string representation of DEQ
+     *
+     * @return string
+     */
+    @Override
+    public String toString(){
+        StringBuilder builder = new StringBuilder();
+        for(T n : this){
+            builder.append(n).append(", ");
+        }
+        String ret = builder.toString();
+        return ret.isEmpty() ? ret : ret.substring(0, ret.length() - 2);
+    }
+}
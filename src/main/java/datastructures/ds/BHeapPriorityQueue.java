@@ -0,0 +1,145 @@
+package datastructures.ds;
+
+import java.util.ArrayList;
+
+/**
+ * represents a priority queue with a binary heap in the B-heap layout of Poul-Henning Kamp.
+ * the array is cut into pages of pageSize slots, and every page holds a few complete levels of one subtree,
+ * so a path from the root to a leaf crosses a new page only once every log2(pageSize) - 1 levels instead of
+ * on almost every level. within a page the nodes are laid out like a small binary heap; the two slots at
+ * the start of every page but the first are the children of a node in the bottom row of its parent page,
+ * and each of them has a single child inside the page.
+ * the layout helps once the heap no longer fits in cache. it only arranges the references in data, the
+ * elements they point to are wherever they were allocated.
+ *
+ * @param <T> the type of data
+ */
+public final class BHeapPriorityQueue<T extends Comparable<T>> extends PriorityQueue<T>{
+
+    /**
+     * number of slots in a page of a priority queue created without a page size, 4 KiB of compressed references
+     */
+    private static final int DEFAULT_PAGE_SIZE = 1024;
+
+    /**
+     * number of slots in a page, a power of two
+     */
+    private final int pageSize;
+
+    /**
+     * mask of the offset within a page
+     */
+    private final int pageMask;
+
+    /**
+     * log2 of pageSize
+     */
+    private final int pageShift;
+
+    /**
+     * default constructor to create an empty priority queue
+     *
+     * @param isMaxHeap the type of heap to construct
+     */
+    public BHeapPriorityQueue(boolean isMaxHeap){
+        this(isMaxHeap, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * constructor to create an empty priority queue with the given page size
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param pageSize  number of slots in a page, a power of two of at least 8
+     */
+    public BHeapPriorityQueue(boolean isMaxHeap, int pageSize){
+        super(isMaxHeap);
+        if(pageSize < 8 || Integer.bitCount(pageSize) != 1){
+            throw new IllegalArgumentException("page size must be a power of two of at least 8!");
+        }
+        this.pageSize = pageSize;
+        this.pageMask = pageSize - 1;
+        this.pageShift = Integer.numberOfTrailingZeros(pageSize);
+    }
+
+    /**
+     * convenient constructor to create a priority queue from an array
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param pageSize  number of slots in a page, a power of two of at least 8
+     * @param arr       the array of data to construct the priority queue
+     */
+    public BHeapPriorityQueue(boolean isMaxHeap, int pageSize, ArrayList<T> arr){
+        this(isMaxHeap, pageSize);
+        this.data.addAll(arr);
+        this.heapify();
+    }
+
+    /**
+     * restore the heap property on the whole array in O(n)
+     */
+    @Override
+    protected void heapify(){
+        // parents do not always precede their children's parents, but they precede their children
+        for(int i = this.size(); i > 0; i--){
+            this.shiftDown(i);
+        }
+    }
+
+    /**
+     * get the index of the parent of a node
+     *
+     * @param i index of the node, greater than 1
+     * @return index of the parent
+     */
+    @Override
+    protected int parent(int i){
+        int offset = i & this.pageMask;
+        if(i < this.pageSize || offset > 3){
+            // inside the page
+            return (i & ~this.pageMask) | (offset >> 1);
+        }
+        if(offset < 2){
+            // first two slots of a page, the parent is in the bottom row of the parent page
+            int page = (i - this.pageSize) >> this.pageShift;
+            int parent = page + (page & ~(this.pageMask >> 1));
+            return parent | (this.pageSize >> 1);
+        }
+        // the single child of one of the first two slots
+        return i - 2;
+    }
+
+    /**
+     * get the index of the first child of a node
+     *
+     * @param i index of the node
+     * @return index of the first child, which may be beyond the heap
+     */
+    @Override
+    protected int firstChild(int i){
+        if(i > this.pageMask && (i & (this.pageMask - 1)) == 0){
+            // first two slots of a page have a single child
+            return i + 2;
+        }
+        if((i & (this.pageSize >> 1)) != 0){
+            // bottom row of a page, the children start a new page
+            long page = ((i & ~this.pageMask) >> 1 | (i & (this.pageMask >> 1))) + 1;
+            return (int) Math.min(page << this.pageShift, Integer.MAX_VALUE);
+        }
+        return i + (i & this.pageMask);
+    }
+
+    /**
+     * get the index of the last child of a node
+     *
+     * @param i index of the node
+     * @return index of the last child, which may be beyond the heap
+     */
+    @Override
+    protected int lastChild(int i){
+        int first = this.firstChild(i);
+        if(first == Integer.MAX_VALUE || (i > this.pageMask && (i & (this.pageMask - 1)) == 0)){
+            return first;
+        }
+        return first + 1;
+    }
+}
@@ -0,0 +1,503 @@
+package datastructures.ds;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * represents a bounded blocking doubly ended queue for handing elements between threads, backed by an
+ * ArrayDoublyEndedQueue that starts small and grows as needed, so the capacity is only a limit. the backing
+ * DEQ holds at most 2^30 elements, so a larger capacity such as Integer.MAX_VALUE is lowered to 2^30 and
+ * put blocks there like at any other capacity.
+ * put and take block while the DEQ is full or empty, offer and poll give up after a timeout, and drainTo
+ * moves a whole batch under a single lock acquisition.
+ * all waiting is done on a ReentrantLock and its conditions rather than synchronized, so a virtual thread
+ * that blocks here unmounts from its carrier instead of pinning it.
+ * null elements are not allowed, since null means no element for poll.
+ *
+ * @param <T> type of data
+ */
+public class BlockingDoublyEndedQueue<T>{
+
+    /**
+     * maximum number of elements
+     */
+    private final int capacity;
+
+    /**
+     * the elements, only accessed while holding lock
+     */
+    private final ArrayDoublyEndedQueue<T> elements;
+
+    /**
+     * lock guarding every access to elements
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * condition signalled when an element is inserted
+     */
+    private final Condition notEmpty;
+
+    /**
+     * condition signalled when an element is removed
+     */
+    private final Condition notFull;
+
+    /**
+     * default constructor to create an empty DEQ holding at most the given number of elements
+     *
+     * @param capacity maximum number of elements, lowered to 2^30 if larger
+     */
+    public BlockingDoublyEndedQueue(int capacity){
+        if(capacity < 1){
+            throw new IllegalArgumentException("capacity must be positive!");
+        }
+        this.capacity = Math.min(capacity, ArrayDoublyEndedQueue.MAX_CAPACITY);
+        this.elements = new ArrayDoublyEndedQueue<>();
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+    }
+
+    /**
+     * get the maximum number of elements
+     *
+     * @return capacity in int
+     */
+    public int capacity(){
+        return this.capacity;
+    }
+
+    /**
+     * get the size of DEQ
+     *
+     * @return size in int
+     */
+    public int size(){
+        this.lock.lock();
+        try{
+            return this.elements.size();
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * check if DEQ is empty
+     *
+     * @return true if DEQ is empty
+     */
+    public boolean isEmpty(){
+        return this.size() == 0;
+    }
+
+    /**
+     * get the number of elements that can be inserted without blocking
+     *
+     * @return remaining capacity in int
+     */
+    public int remainingCapacity(){
+        return this.capacity - this.size();
+    }
+
+    /**
+     * helper method to reject null elements
+     *
+     * @param element element to check
+     */
+    private static void checkElement(Object element){
+        if(element == null){
+            throw new IllegalArgumentException("element cannot be null!");
+        }
+    }
+
+    /**
+     * helper method to insert an element while holding the lock and DEQ is not full
+     *
+     * @param element new element
+     * @param first   true to insert at the start, false at the end
+     */
+    private void insert(T element, boolean first){
+        if(first){
+            this.elements.insertFirst(element);
+        }else{
+            this.elements.insertLast(element);
+        }
+        this.notEmpty.signal();
+    }
+
+    /**
+     * helper method to remove an element while holding the lock and DEQ is not empty
+     *
+     * @param first true to remove from the start, false from the end
+     * @return removed element
+     */
+    private T extract(boolean first){
+        T ret = first ? this.elements.removeFirst() : this.elements.removeLast();
+        this.notFull.signal();
+        return ret;
+    }
+
+    /**
+     * helper method to insert an element, waiting up to the given time for space
+     *
+     * @param element new element
+     * @param first   true to insert at the start, false at the end
+     * @param nanos   maximum time to wait in nanoseconds, or negative to wait forever
+     * @return true if inserted, false if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean insert(T element, boolean first, long nanos) throws InterruptedException{
+        checkElement(element);
+        this.lock.lockInterruptibly();
+        try{
+            while(this.elements.size() == this.capacity){
+                if(nanos < 0){
+                    this.notFull.await();
+                }else if(nanos == 0){
+                    return false;
+                }else{
+                    nanos = Math.max(this.notFull.awaitNanos(nanos), 0);
+                }
+            }
+            this.insert(element, first);
+            return true;
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * helper method to remove an element, waiting up to the given time for one
+     *
+     * @param first true to remove from the start, false from the end
+     * @param nanos maximum time to wait in nanoseconds, or negative to wait forever
+     * @return removed element, or null if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private T extract(boolean first, long nanos) throws InterruptedException{
+        this.lock.lockInterruptibly();
+        try{
+            while(this.elements.isEmpty()){
+                if(nanos < 0){
+                    this.notEmpty.await();
+                }else if(nanos == 0){
+                    return null;
+                }else{
+                    nanos = Math.max(this.notEmpty.awaitNanos(nanos), 0);
+                }
+            }
+            return this.extract(first);
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * insert element at the start of the DEQ, waiting for space if full
+     *
+     * @param element new element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putFirst(T element) throws InterruptedException{
+        this.insert(element, true, -1);
+    }
+
+    /**
+     * insert element at the end of the DEQ, waiting for space if full
+     *
+     * @param element new element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putLast(T element) throws InterruptedException{
+        this.insert(element, false, -1);
+    }
+
+    /**
+     * insert element at the end of the DEQ, waiting for space if full
+     *
+     * @param element new element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException{
+        this.putLast(element);
+    }
+
+    /**
+     * insert element at the start of the DEQ if there is space
+     *
+     * @param element new element
+     * @return true if inserted, false if full
+     */
+    public boolean offerFirst(T element){
+        checkElement(element);
+        this.lock.lock();
+        try{
+            if(this.elements.size() == this.capacity){
+                return false;
+            }
+            this.insert(element, true);
+            return true;
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * insert element at the end of the DEQ if there is space
+     *
+     * @param element new element
+     * @return true if inserted, false if full
+     */
+    public boolean offerLast(T element){
+        checkElement(element);
+        this.lock.lock();
+        try{
+            if(this.elements.size() == this.capacity){
+                return false;
+            }
+            this.insert(element, false);
+            return true;
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * insert element at the start of the DEQ, waiting up to the given time for space
+     *
+     * @param element new element
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return true if inserted, false if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offerFirst(T element, long timeout, TimeUnit unit) throws InterruptedException{
+        return this.insert(element, true, Math.max(unit.toNanos(timeout), 0));
+    }
+
+    /**
+     * insert element at the end of the DEQ, waiting up to the given time for space
+     *
+     * @param element new element
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return true if inserted, false if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offerLast(T element, long timeout, TimeUnit unit) throws InterruptedException{
+        return this.insert(element, false, Math.max(unit.toNanos(timeout), 0));
+    }
+
+    /**
+     * insert element at the end of the DEQ, waiting up to the given time for space
+     *
+     * @param element new element
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return true if inserted, false if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException{
+        return this.offerLast(element, timeout, unit);
+    }
+
+    /**
+     * get and remove the first element of DEQ, waiting for one if empty
+     *
+     * @return first element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeFirst() throws InterruptedException{
+        return this.extract(true, -1);
+    }
+
+    /**
+     * get and remove the last element of DEQ, waiting for one if empty
+     *
+     * @return last element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeLast() throws InterruptedException{
+        return this.extract(false, -1);
+    }
+
+    /**
+     * get and remove the first element of DEQ, waiting for one if empty
+     *
+     * @return first element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException{
+        return this.takeFirst();
+    }
+
+    /**
+     * get and remove the first element of DEQ if any
+     *
+     * @return first element, or null if empty
+     */
+    public T pollFirst(){
+        this.lock.lock();
+        try{
+            return this.elements.isEmpty() ? null : this.extract(true);
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * get and remove the last element of DEQ if any
+     *
+     * @return last element, or null if empty
+     */
+    public T pollLast(){
+        this.lock.lock();
+        try{
+            return this.elements.isEmpty() ? null : this.extract(false);
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * get and remove the first element of DEQ, waiting up to the given time for one
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return first element, or null if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T pollFirst(long timeout, TimeUnit unit) throws InterruptedException{
+        return this.extract(true, Math.max(unit.toNanos(timeout), 0));
+    }
+
+    /**
+     * get and remove the last element of DEQ, waiting up to the given time for one
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return last element, or null if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T pollLast(long timeout, TimeUnit unit) throws InterruptedException{
+        return this.extract(false, Math.max(unit.toNanos(timeout), 0));
+    }
+
+    /**
+     * get and remove the first element of DEQ, waiting up to the given time for one
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of timeout
+     * @return first element, or null if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException{
+        return this.pollFirst(timeout, unit);
+    }
+
+    /**
+     * remove all elements from the start of DEQ and add them to the given collection
+     *
+     * @param collection collection to add elements to
+     * @return number of elements moved
+     */
+    public int drainTo(Collection<? super T> collection){
+        return this.drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * remove at most max elements from the start of DEQ and add them to the given collection,
+     * all under a single lock acquisition
+     *
+     * @param collection collection to add elements to
+     * @param max        maximum number of elements to move
+     * @return number of elements moved
+     */
+    public int drainTo(Collection<? super T> collection, int max){
+        this.lock.lock();
+        try{
+            return this.drainLocked(collection, max);
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * wait up to the given time for at least one element, then remove at most max elements from the start
+     * of DEQ and add them to the given collection, all under a single lock acquisition
+     *
+     * @param collection collection to add elements to
+     * @param max        maximum number of elements to move
+     * @param timeout    maximum time to wait
+     * @param unit       unit of timeout
+     * @return number of elements moved, 0 if timed out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int drainTo(Collection<? super T> collection, int max, long timeout, TimeUnit unit)
+            throws InterruptedException{
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try{
+            while(this.elements.isEmpty()){
+                if(nanos <= 0){
+                    return 0;
+                }
+                nanos = this.notEmpty.awaitNanos(nanos);
+            }
+            return this.drainLocked(collection, max);
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * helper method to drain while holding the lock
+     *
+     * @param collection collection to add elements to
+     * @param max        maximum number of elements to move
+     * @return number of elements moved
+     */
+    private int drainLocked(Collection<? super T> collection, int max){
+        int n = Math.min(max, this.elements.size());
+        for(int i = 0; i < n; i++){
+            collection.add(this.elements.removeFirst());
+        }
+        if(n == 1){
+            this.notFull.signal();
+        }else if(n > 1){
+            this.notFull.signalAll();
+        }
+        return Math.max(n, 0);
+    }
+
+    /**
+     * clear the DEQ and wake up every waiting producer
+     */
+    public void clear(){
+        this.lock.lock();
+        try{
+            this.elements.clear();
+            this.notFull.signalAll();
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * get string representation of DEQ
+     *
+     * @return string
+     */
+    @Override
+    public String toString(){
+        this.lock.lock();
+        try{
+            return this.elements.toString();
+        }finally{
+            this.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package datastructures.ds;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * represents a disjoint set that can be shared between threads, after the concurrent union/find of
+ * Anderson and Woll, and Jayanti and Tarjan.
+ * a head points to itself, and every other node points to a node with a larger index, which rules out
+ * cycles no matter how operations interleave. union links the head with the smaller index under the other one
+ * with a single CAS that only succeeds if it is still a head, and retries otherwise. find splits the path
+ * with CAS as it walks up, and a failed CAS is simply skipped since another thread already shortened that
+ * step, so find is wait-free: every step moves to a larger index.
+ * linking by index instead of by size needs no extra state, and keeps trees shallow when the indices of
+ * the nodes are unrelated to the order of the unions, as with vertices of a graph.
+ * the number of components is weakly consistent while unions are running and exact once they are done.
+ */
+public class ConcurrentDisjointSet{
+
+    /**
+     * array to store the parent of an index, which is the index itself for a head
+     */
+    private final AtomicIntegerArray parents;
+
+    /**
+     * number of sets
+     */
+    private final LongAdder components;
+
+    private final int size;
+
+    private boolean withinRange(int index){
+        return index >= 0 && index < this.size;
+    }
+
+    /**
+     * constructor to initialize a disjoint set with given size
+     *
+     * @param size size of the disjoint set
+     */
+    public ConcurrentDisjointSet(int size){
+        if(size < 0){
+            throw new IllegalArgumentException("size cannot be smaller than 0");
+        }
+        this.size = size;
+        this.parents = new AtomicIntegerArray(size);
+        for(int i = 0; i < size; i++){
+            this.parents.set(i, i);
+        }
+        this.components = new LongAdder();
+        this.components.add(size);
+    }
+
+    /**
+     * getter for size
+     *
+     * @return size in int
+     */
+    public int getSize(){
+        return this.size;
+    }
+
+    /**
+     * find the head of any node and split the path while finding
+     *
+     * @param p index of node
+     * @return index of head, which may stop being a head as soon as it is returned
+     */
+    public int find(int p){
+        if(!this.withinRange(p)){
+            throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+        }
+        return this.root(p);
+    }
+
+    /**
+     * helper method to find the head of a node known to be in range, splitting the path
+     *
+     * @param p index of node
+     * @return index of head
+     */
+    private int root(int p){
+        while(true){
+            int parent = this.parents.get(p);
+            if(parent == p){
+                return p;
+            }
+            int grandparent = this.parents.get(parent);
+            if(grandparent != parent){
+                // path splitting, point p to its grandparent unless another thread got there first
+                this.parents.compareAndSet(p, parent, grandparent);
+            }
+            p = parent;
+        }
+    }
+
+    /**
+     * find out if 2 nodes are connected
+     *
+     * @param p first node
+     * @param q second node
+     * @return true if two nodes belong to the same parent at some point during the call
+     */
+    public boolean isConnected(int p, int q){
+        if(!this.withinRange(p) || !this.withinRange(q)){
+            throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+        }
+        while(true){
+            p = this.root(p);
+            q = this.root(q);
+            if(p == q){
+                return true;
+            }
+            // p was a head after q was found, so they were apart at that moment
+            if(this.parents.get(p) == p){
+                return false;
+            }
+        }
+    }
+
+    /**
+     * union two nodes, linking the head with the smaller index under the other head
+     *
+     * @param p first node
+     * @param q second node
+     */
+    public void union(int p, int q){
+        if(!this.withinRange(p) || !this.withinRange(q)){
+            throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+        }
+        while(true){
+            p = this.root(p);
+            q = this.root(q);
+            if(p == q){
+                return;
+            }
+            if(p > q){
+                int temp = p;
+                p = q;
+                q = temp;
+            }
+            // fails if another thread linked p first, then find the new heads and try again
+            if(this.parents.compareAndSet(p, p, q)){
+                this.components.decrement();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the number of connected components in the disjoint set.
+     *
+     * @return number of connected components
+     */
+    public int getNumberOfComponents(){
+        return this.components.intValue();
+    }
+}
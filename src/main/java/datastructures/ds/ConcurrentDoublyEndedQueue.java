@@ -0,0 +1,882 @@
+package datastructures.ds;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * represents a lock-free doubly ended queue that can be shared between threads.
+ * it follows the algorithm of java.util.concurrent.ConcurrentLinkedDeque: nodes are linked with CAS on their
+ * prev and next references, an element is removed by CAS-ing its item to null (the linearization point),
+ * and the dead node is unlinked afterwards by whichever thread gets to it. head and tail are only hints
+ * that may lag behind the real ends by a few nodes, so every operation first walks to the real end.
+ * a node that is fully unlinked points to itself, or to a terminator at the ends, so a thread holding it
+ * knows to restart from head or tail.
+ * size is O(n) and, like the iterators, weakly consistent: it reflects some state of the DEQ during the call.
+ * null elements are not allowed, since null marks a removed node.
+ *
+ * @param <T> type of data
+ */
+public class ConcurrentDoublyEndedQueue<T> implements Iterable<T>{
+
+    /**
+     * represents a node in DEQ, with a null item once its element is removed
+     *
+     * @param <T> type of data
+     */
+    private static final class Node<T>{
+        private volatile Node<T> prev;
+        private volatile T item;
+        private volatile Node<T> next;
+
+        /**
+         * constructor for the initial dummy node and the terminators
+         */
+        private Node(){
+        }
+
+        /**
+         * default constructor, relaxed write since the node is published by a CAS
+         *
+         * @param item element of node
+         */
+        private Node(T item){
+            ITEM.set(this, item);
+        }
+    }
+
+    /**
+     * marks the prev of a node unlinked from the start of DEQ, its next points to itself
+     */
+    private static final Node<Object> PREV_TERMINATOR = new Node<>();
+
+    /**
+     * marks the next of a node unlinked from the end of DEQ, its prev points to itself
+     */
+    private static final Node<Object> NEXT_TERMINATOR = new Node<>();
+
+    /**
+     * number of dead nodes an unlink tolerates at an end before squeezing them out
+     */
+    private static final int HOPS = 2;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle PREV;
+    private static final VarHandle NEXT;
+    private static final VarHandle ITEM;
+
+    static{
+        PREV_TERMINATOR.next = PREV_TERMINATOR;
+        NEXT_TERMINATOR.prev = NEXT_TERMINATOR;
+        try{
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentDoublyEndedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentDoublyEndedQueue.class, "tail", Node.class);
+            PREV = lookup.findVarHandle(Node.class, "prev", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+        }catch(ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * hint to a node near the start of DEQ, never null and never unlinked from the start
+     */
+    private volatile Node<T> head;
+
+    /**
+     * hint to a node near the end of DEQ, never null and never unlinked from the end
+     */
+    private volatile Node<T> tail;
+
+    /**
+     * default constructor to create an empty DEQ
+     */
+    public ConcurrentDoublyEndedQueue(){
+        this.head = this.tail = new Node<>();
+    }
+
+    /**
+     * convenient constrcutor to create a DEQ with given elements
+     *
+     * @param elements elements to insert
+     */
+    public ConcurrentDoublyEndedQueue(Iterable<T> elements){
+        // link the nodes before publishing them, no other thread can see this DEQ yet
+        Node<T> h = null, t = null;
+        for(T element : elements){
+            checkElement(element);
+            Node<T> node = new Node<>(element);
+            if(h == null){
+                h = t = node;
+            }else{
+                NEXT.set(t, node);
+                PREV.set(node, t);
+                t = node;
+            }
+        }
+        if(h == null){
+            h = t = new Node<>();
+        }else if(h == t){
+            // a single element gets a dead node after it, since head and tail cannot share a live node
+            Node<T> node = new Node<>();
+            NEXT.set(t, node);
+            PREV.set(node, t);
+            t = node;
+        }
+        this.head = h;
+        this.tail = t;
+    }
+
+    /**
+     * get the terminator of unlinked prev references
+     *
+     * @return terminator node
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> prevTerminator(){
+        return (Node<T>) PREV_TERMINATOR;
+    }
+
+    /**
+     * get the terminator of unlinked next references
+     *
+     * @return terminator node
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T> nextTerminator(){
+        return (Node<T>) NEXT_TERMINATOR;
+    }
+
+    /**
+     * helper method to reject null elements
+     *
+     * @param element element to check
+     */
+    private static void checkElement(Object element){
+        if(element == null){
+            throw new IllegalArgumentException("element cannot be null!");
+        }
+    }
+
+    /**
+     * insert element at the start of the DEQ
+     *
+     * @param element new element
+     */
+    public void insertFirst(T element){
+        checkElement(element);
+        Node<T> node = new Node<>(element);
+        restart:
+        for(;;){
+            for(Node<T> h = this.head, p = h, q;;){
+                if((q = p.prev) != null && (q = (p = q).prev) != null){
+                    // check for head updates every other hop
+                    p = (h != (h = this.head)) ? h : q;
+                }else if(p.next == p){
+                    // p was unlinked from the start
+                    continue restart;
+                }else{
+                    // p is the first node
+                    NEXT.set(node, p);
+                    if(PREV.compareAndSet(p, null, node)){
+                        if(p != h){
+                            HEAD.weakCompareAndSet(this, h, node);
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * insert element at the end of the DEQ
+     *
+     * @param element new element
+     */
+    public void insertLast(T element){
+        checkElement(element);
+        Node<T> node = new Node<>(element);
+        restart:
+        for(;;){
+            for(Node<T> t = this.tail, p = t, q;;){
+                if((q = p.next) != null && (q = (p = q).next) != null){
+                    // check for tail updates every other hop
+                    p = (t != (t = this.tail)) ? t : q;
+                }else if(p.prev == p){
+                    // p was unlinked from the end
+                    continue restart;
+                }else{
+                    // p is the last node
+                    PREV.set(node, p);
+                    if(NEXT.compareAndSet(p, null, node)){
+                        if(p != t){
+                            TAIL.weakCompareAndSet(this, t, node);
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * find the first node, live or dead, and move head to it
+     *
+     * @return first node
+     */
+    private Node<T> first(){
+        restart:
+        for(;;){
+            for(Node<T> h = this.head, p = h, q;;){
+                if((q = p.prev) != null && (q = (p = q).prev) != null){
+                    p = (h != (h = this.head)) ? h : q;
+                }else if(p == h || HEAD.compareAndSet(this, h, p)){
+                    return p;
+                }else{
+                    continue restart;
+                }
+            }
+        }
+    }
+
+    /**
+     * find the last node, live or dead, and move tail to it
+     *
+     * @return last node
+     */
+    private Node<T> last(){
+        restart:
+        for(;;){
+            for(Node<T> t = this.tail, p = t, q;;){
+                if((q = p.next) != null && (q = (p = q).next) != null){
+                    p = (t != (t = this.tail)) ? t : q;
+                }else if(p == t || TAIL.compareAndSet(this, t, p)){
+                    return p;
+                }else{
+                    continue restart;
+                }
+            }
+        }
+    }
+
+    /**
+     * get the successor of node, or the first node if it has been unlinked
+     *
+     * @param p node
+     * @return successor, null at the end
+     */
+    private Node<T> succ(Node<T> p){
+        Node<T> q = p.next;
+        return p == q ? this.first() : q;
+    }
+
+    /**
+     * get the predecessor of node, or the last node if it has been unlinked
+     *
+     * @param p node
+     * @return predecessor, null at the start
+     */
+    private Node<T> pred(Node<T> p){
+        Node<T> q = p.prev;
+        return p == q ? this.last() : q;
+    }
+
+    /**
+     * get and remove the first element of DEQ
+     *
+     * @return first element, or null if DEQ is empty
+     */
+    public T pollFirst(){
+        restart:
+        for(;;){
+            for(Node<T> first = this.first(), p = first;;){
+                T item = p.item;
+                if(item != null){
+                    // something was inserted before first, retry to stay linearizable
+                    if(first.prev != null){
+                        continue restart;
+                    }
+                    if(ITEM.compareAndSet(p, item, null)){
+                        this.unlink(p);
+                        return item;
+                    }
+                }
+                if(p == (p = p.next)){
+                    continue restart;
+                }
+                if(p == null){
+                    if(first.prev != null){
+                        continue restart;
+                    }
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * get and remove the last element of DEQ
+     *
+     * @return last element, or null if DEQ is empty
+     */
+    public T pollLast(){
+        restart:
+        for(;;){
+            for(Node<T> last = this.last(), p = last;;){
+                T item = p.item;
+                if(item != null){
+                    // something was inserted after last, retry to stay linearizable
+                    if(last.next != null){
+                        continue restart;
+                    }
+                    if(ITEM.compareAndSet(p, item, null)){
+                        this.unlink(p);
+                        return item;
+                    }
+                }
+                if(p == (p = p.prev)){
+                    continue restart;
+                }
+                if(p == null){
+                    if(last.next != null){
+                        continue restart;
+                    }
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * get and remove the first element of DEQ
+     *
+     * @return first element
+     */
+    public T removeFirst(){
+        T ret = this.pollFirst();
+        if(ret == null){
+            throw new IndexOutOfBoundsException("cannot remove from empty DEQ!");
+        }
+        return ret;
+    }
+
+    /**
+     * get and remove the last element of DEQ
+     *
+     * @return last element
+     */
+    public T removeLast(){
+        T ret = this.pollLast();
+        if(ret == null){
+            throw new IndexOutOfBoundsException("cannot remove from empty DEQ!");
+        }
+        return ret;
+    }
+
+    /**
+     * helper method to peek element at the start of the DEQ
+     *
+     * @return first element, or null if DEQ is empty
+     */
+    private T firstItem(){
+        restart:
+        for(;;){
+            Node<T> first = this.first(), p = first;
+            T item;
+            while((item = p.item) == null){
+                if(p == (p = p.next)){
+                    continue restart;
+                }
+                if(p == null){
+                    break;
+                }
+            }
+            if(first.prev != null){
+                continue restart;
+            }
+            return item;
+        }
+    }
+
+    /**
+     * helper method to peek element at the last of the DEQ
+     *
+     * @return last element, or null if DEQ is empty
+     */
+    private T lastItem(){
+        restart:
+        for(;;){
+            Node<T> last = this.last(), p = last;
+            T item;
+            while((item = p.item) == null){
+                if(p == (p = p.prev)){
+                    continue restart;
+                }
+                if(p == null){
+                    break;
+                }
+            }
+            if(last.next != null){
+                continue restart;
+            }
+            return item;
+        }
+    }
+
+    /**
+     * peek element at the start of the DEQ
+     *
+     * @return first element
+     */
+    public T peekFirst(){
+        T ret = this.firstItem();
+        if(ret == null){
+            throw new IndexOutOfBoundsException("Cannot peek an empty DEQ!");
+        }
+        return ret;
+    }
+
+    /**
+     * peek element at the last of the DEQ
+     *
+     * @return last element
+     */
+    public T peekLast(){
+        T ret = this.lastItem();
+        if(ret == null){
+            throw new IndexOutOfBoundsException("Cannot peek an empty DEQ!");
+        }
+        return ret;
+    }
+
+    /**
+     * check if DEQ is empty
+     *
+     * @return true if DEQ is empty
+     */
+    public boolean isEmpty(){
+        return this.firstItem() == null;
+    }
+
+    /**
+     * get the size of DEQ by counting live nodes, O(n) and weakly consistent
+     *
+     * @return size in int
+     */
+    public int size(){
+        restart:
+        for(;;){
+            int count = 0;
+            for(Node<T> p = this.first(); p != null;){
+                if(p.item != null && ++count == Integer.MAX_VALUE){
+                    return count;
+                }
+                if(p == (p = p.next)){
+                    continue restart;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * check if DEQ contains given item
+     *
+     * @param item item to check
+     * @return true if DEQ contains the item
+     */
+    public boolean contains(T item){
+        if(item != null){
+            for(Node<T> p = this.first(); p != null; p = this.succ(p)){
+                T current = p.item;
+                if(current != null && current.equals(item)){
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * remove first occurrence of the given item
+     *
+     * @param item item to check
+     * @return true if removed successfully, false if given item not found
+     */
+    public boolean remove(T item){
+        checkElement(item);
+        for(Node<T> p = this.first(); p != null; p = this.succ(p)){
+            T current = p.item;
+            if(current != null && current.equals(item) && ITEM.compareAndSet(p, current, null)){
+                this.unlink(p);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * clear the DEQ, elements inserted concurrently may survive
+     */
+    public void clear(){
+        while(this.pollFirst() != null){
+            // keep polling
+        }
+    }
+
+    /**
+     * unlink a node whose item has just been CAS-ed to null
+     *
+     * @param x dead node
+     */
+    private void unlink(Node<T> x){
+        Node<T> prev = x.prev;
+        Node<T> next = x.next;
+        if(prev == null){
+            this.unlinkFirst(x, next);
+        }else if(next == null){
+            this.unlinkLast(x, prev);
+        }else{
+            // x is an interior node, find its live neighbours
+            Node<T> activePred, activeSucc;
+            boolean isFirst, isLast;
+            int hops = 1;
+
+            for(Node<T> p = prev;; hops++){
+                if(p.item != null){
+                    activePred = p;
+                    isFirst = false;
+                    break;
+                }
+                Node<T> q = p.prev;
+                if(q == null){
+                    if(p.next == p){
+                        return;
+                    }
+                    activePred = p;
+                    isFirst = true;
+                    break;
+                }else if(p == q){
+                    return;
+                }else{
+                    p = q;
+                }
+            }
+
+            for(Node<T> p = next;; hops++){
+                if(p.item != null){
+                    activeSucc = p;
+                    isLast = false;
+                    break;
+                }
+                Node<T> q = p.next;
+                if(q == null){
+                    if(p.prev == p){
+                        return;
+                    }
+                    activeSucc = p;
+                    isLast = true;
+                    break;
+                }else if(p == q){
+                    return;
+                }else{
+                    p = q;
+                }
+            }
+
+            // a few dead nodes at an end are cheaper to leave to a later unlink
+            if(hops < HOPS && (isFirst | isLast)){
+                return;
+            }
+
+            // squeeze out dead nodes between the live neighbours, including x
+            this.skipDeletedSuccessors(activePred);
+            this.skipDeletedPredecessors(activeSucc);
+
+            // make x unreachable so it can be collected
+            if((isFirst | isLast)
+                    && activePred.next == activeSucc
+                    && activeSucc.prev == activePred
+                    && (isFirst ? activePred.prev == null : activePred.item != null)
+                    && (isLast ? activeSucc.next == null : activeSucc.item != null)){
+                this.updateHead();
+                this.updateTail();
+                PREV.setRelease(x, isFirst ? this.prevTerminator() : x);
+                NEXT.setRelease(x, isLast ? this.nextTerminator() : x);
+            }
+        }
+    }
+
+    /**
+     * unlink dead nodes after the dead first node
+     *
+     * @param first dead first node
+     * @param next  next of first
+     */
+    private void unlinkFirst(Node<T> first, Node<T> next){
+        for(Node<T> o = null, p = next, q;;){
+            if(p.item != null || (q = p.next) == null){
+                if(o != null && p.prev != p && NEXT.compareAndSet(first, next, p)){
+                    this.skipDeletedPredecessors(p);
+                    if(first.prev == null && (p.next == null || p.item != null) && p.prev == first){
+                        this.updateHead();
+                        this.updateTail();
+                        NEXT.setRelease(o, o);
+                        PREV.setRelease(o, this.prevTerminator());
+                    }
+                }
+                return;
+            }else if(p == q){
+                return;
+            }else{
+                o = p;
+                p = q;
+            }
+        }
+    }
+
+    /**
+     * unlink dead nodes before the dead last node
+     *
+     * @param last dead last node
+     * @param prev prev of last
+     */
+    private void unlinkLast(Node<T> last, Node<T> prev){
+        for(Node<T> o = null, p = prev, q;;){
+            if(p.item != null || (q = p.prev) == null){
+                if(o != null && p.next != p && PREV.compareAndSet(last, prev, p)){
+                    this.skipDeletedSuccessors(p);
+                    if(last.next == null && (p.prev == null || p.item != null) && p.next == last){
+                        this.updateHead();
+                        this.updateTail();
+                        PREV.setRelease(o, o);
+                        NEXT.setRelease(o, this.nextTerminator());
+                    }
+                }
+                return;
+            }else if(p == q){
+                return;
+            }else{
+                o = p;
+                p = q;
+            }
+        }
+    }
+
+    /**
+     * make sure head does not point at a dead node that is about to be unlinked
+     */
+    private void updateHead(){
+        Node<T> h, p, q;
+        restart:
+        while((h = this.head).item == null && (p = h.prev) != null){
+            for(;;){
+                if((q = p.prev) == null || (q = (p = q).prev) == null){
+                    if(HEAD.compareAndSet(this, h, p)){
+                        return;
+                    }
+                    continue restart;
+                }else if(h != this.head){
+                    continue restart;
+                }else{
+                    p = q;
+                }
+            }
+        }
+    }
+
+    /**
+     * make sure tail does not point at a dead node that is about to be unlinked
+     */
+    private void updateTail(){
+        Node<T> t, p, q;
+        restart:
+        while((t = this.tail).item == null && (p = t.next) != null){
+            for(;;){
+                if((q = p.next) == null || (q = (p = q).next) == null){
+                    if(TAIL.compareAndSet(this, t, p)){
+                        return;
+                    }
+                    continue restart;
+                }else if(t != this.tail){
+                    continue restart;
+                }else{
+                    p = q;
+                }
+            }
+        }
+    }
+
+    /**
+     * point prev of x past any dead predecessors
+     *
+     * @param x node
+     */
+    private void skipDeletedPredecessors(Node<T> x){
+        whileActive:
+        do{
+            Node<T> prev = x.prev;
+            Node<T> p = prev;
+            for(;;){
+                if(p.item != null){
+                    break;
+                }
+                Node<T> q = p.prev;
+                if(q == null){
+                    if(p.next == p){
+                        continue whileActive;
+                    }
+                    break;
+                }else if(p == q){
+                    continue whileActive;
+                }else{
+                    p = q;
+                }
+            }
+            if(prev == p || PREV.compareAndSet(x, prev, p)){
+                return;
+            }
+        }while(x.item != null || x.next == null);
+    }
+
+    /**
+     * point next of x past any dead successors
+     *
+     * @param x node
+     */
+    private void skipDeletedSuccessors(Node<T> x){
+        whileActive:
+        do{
+            Node<T> next = x.next;
+            Node<T> p = next;
+            for(;;){
+                if(p.item != null){
+                    break;
+                }
+                Node<T> q = p.next;
+                if(q == null){
+                    if(p.prev == p){
+                        continue whileActive;
+                    }
+                    break;
+                }else if(p == q){
+                    continue whileActive;
+                }else{
+                    p = q;
+                }
+            }
+            if(next == p || NEXT.compareAndSet(x, next, p)){
+                return;
+            }
+        }while(x.item != null || x.prev == null);
+    }
+
+    /**
+     * represents a weakly consistent iterator: it never throws ConcurrentModificationException, returns
+     * every element that stays in DEQ for the whole iteration exactly once, and may or may not return
+     * elements inserted or removed meanwhile
+     */
+    private class NodeIterator implements Iterator<T>{
+        private final boolean reverse;
+        private Node<T> nextNode;
+        private T nextItem;
+
+        /**
+         * default constructor for node iterator
+         *
+         * @param reverse reverse flag
+         */
+        private NodeIterator(boolean reverse){
+            this.reverse = reverse;
+            this.advance(null);
+        }
+
+        /**
+         * move to the next live node after p, or the first live node if p is null
+         *
+         * @param p current node
+         */
+        private void advance(Node<T> p){
+            ConcurrentDoublyEndedQueue<T> deq = ConcurrentDoublyEndedQueue.this;
+            if(p == null){
+                p = this.reverse ? deq.last() : deq.first();
+            }else{
+                p = this.reverse ? deq.pred(p) : deq.succ(p);
+            }
+            for(; p != null; p = this.reverse ? deq.pred(p) : deq.succ(p)){
+                T item = p.item;
+                if(item != null){
+                    this.nextNode = p;
+                    this.nextItem = item;
+                    return;
+                }
+            }
+            this.nextNode = null;
+            this.nextItem = null;
+        }
+
+        /**
+         * check if iterator has next element
+         *
+         * @return true if next element exists
+         */
+        @Override
+        public boolean hasNext(){
+            return this.nextItem != null;
+        }
+
+        /**
+         * get the next element and update iterator
+         *
+         * @return next element
+         */
+        @Override
+        public T next(){
+            T ret = this.nextItem;
+            if(ret == null){
+                throw new NoSuchElementException();
+            }
+            this.advance(this.nextNode);
+            return ret;
+        }
+    }
+
+    /**
+     * get the weakly consistent iterator of DEQ
+     *
+     * @return iterator
+     */
+    @Override
+    public Iterator<T> iterator(){
+        return new NodeIterator(false);
+    }
+
+    /**
+     * get weakly consistent reversed iterator of DEQ
+     *
+     * @return reversed iterator
+     */
+    public Iterator<T> reverseIterator(){
+        return new NodeIterator(true);
+    }
+
+    /**
+     * get string representation of DEQ
+     *
+     * @return string
+     */
+    @Override
+    public String toString(){
+        StringBuilder builder = new StringBuilder();
+        for(T n : this){
+            builder.append(n).append(", ");
+        }
+        String ret = builder.toString();
+        return ret.isEmpty() ? ret : ret.substring(0, ret.length() - 2);
+    }
+}
@@ -0,0 +1,253 @@
+package datastructures.ds;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * represents a priority queue that can be shared between threads, built as a MultiQueue of Rihani, Sanders
+ * and Dementiev: a number of PriorityQueue heaps, each behind its own lock. insert goes to a random heap, and
+ * pop looks at the tops of two random heaps and takes the better one, so threads rarely wait on each other.
+ * the price is that pop is relaxed: it returns an element close to the top, not always the top. with c heaps
+ * per thread, the element popped is on average among the best O(c * threads) elements, and an element is
+ * never passed over indefinitely, which is the usual trade-off for a job scheduler. with a single heap, pop
+ * is exact but every thread contends on one lock.
+ * peek returns the best of all heap tops at some moment during the call, so it is exact when no other thread
+ * is changing the priority queue, but a following pop may return a different element.
+ * size is weakly consistent. null elements are not allowed.
+ *
+ * @param <T> the type of data
+ */
+public class ConcurrentPriorityQueue<T extends Comparable<T>>{
+
+    /**
+     * number of heaps per available processor of a priority queue created without a count
+     */
+    private static final int HEAPS_PER_PROCESSOR = 2;
+
+    /**
+     * if true, the top of the heap is the maximum value
+     */
+    protected final boolean isMaxHeap;
+
+    /**
+     * the heaps, each only accessed while holding its lock
+     */
+    private final PriorityQueue<T>[] heaps;
+
+    /**
+     * lock of each heap
+     */
+    private final ReentrantLock[] locks;
+
+    /**
+     * top of each heap, or null if the heap is empty, written while holding the lock so others can read it without
+     */
+    private final AtomicReferenceArray<T> tops;
+
+    /**
+     * number of elements
+     */
+    private final LongAdder count;
+
+    /**
+     * default constructor to create an empty priority queue with two heaps per available processor
+     *
+     * @param isMaxHeap the type of heap to construct
+     */
+    public ConcurrentPriorityQueue(boolean isMaxHeap){
+        this(isMaxHeap, HEAPS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * constructor to create an empty priority queue with the given number of heaps
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param heaps     number of heaps, 1 for a strict priority queue
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentPriorityQueue(boolean isMaxHeap, int heaps){
+        if(heaps < 1){
+            throw new IllegalArgumentException("number of heaps must be at least 1!");
+        }
+        this.isMaxHeap = isMaxHeap;
+        this.heaps = new PriorityQueue[heaps];
+        this.locks = new ReentrantLock[heaps];
+        for(int i = 0; i < heaps; i++){
+            this.heaps[i] = new PriorityQueue<>(isMaxHeap);
+            this.locks[i] = new ReentrantLock();
+        }
+        this.tops = new AtomicReferenceArray<>(heaps);
+        this.count = new LongAdder();
+    }
+
+    /**
+     * size of the priority queue, which may be stale by the time it returns
+     *
+     * @return size in integer
+     */
+    public int size(){
+        long n = this.count.sum();
+        return n < 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * determines if the priority queue is empty, which may be stale by the time it returns
+     *
+     * @return boolean value
+     */
+    public boolean isEmpty(){
+        for(int i = 0; i < this.heaps.length; i++){
+            if(this.tops.get(i) != null){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * helper method to check if an element is closer to the top than another
+     *
+     * @param a first element, not null
+     * @param b second element, or null for an empty heap
+     * @return true if a goes before b
+     */
+    private boolean better(T a, T b){
+        if(b == null){
+            return true;
+        }
+        if(this.isMaxHeap){
+            return a.compareTo(b) > 0;
+        }
+        return a.compareTo(b) < 0;
+    }
+
+    /**
+     * insert a new element into the priority queue
+     *
+     * @param element new element
+     */
+    public void insert(T element){
+        if(element == null){
+            throw new IllegalArgumentException("element cannot be null!");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(this.heaps.length);
+        // move on to another heap rather than wait for a busy one, but block after a few tries so a
+        // queue with a single heap does not spin
+        boolean locked = this.locks[i].tryLock();
+        for(int attempt = 1; !locked && attempt < this.heaps.length; attempt++){
+            i = random.nextInt(this.heaps.length);
+            locked = this.locks[i].tryLock();
+        }
+        if(!locked){
+            this.locks[i].lock();
+        }
+        try{
+            this.heaps[i].insert(element);
+            this.tops.set(i, this.heaps[i].peek());
+            this.count.increment();
+        }finally{
+            this.locks[i].unlock();
+        }
+    }
+
+    /**
+     * get the element at the top of the priority queue
+     *
+     * @return the element
+     */
+    public T peek(){
+        T ret = null;
+        for(int i = 0; i < this.heaps.length; i++){
+            T top = this.tops.get(i);
+            if(top != null && this.better(top, ret)){
+                ret = top;
+            }
+        }
+        if(ret == null){
+            throw new IndexOutOfBoundsException("cannot get top from an empty priority queue!");
+        }
+        return ret;
+    }
+
+    /**
+     * get and extract an element close to the top of the priority queue
+     *
+     * @return the element
+     */
+    public T pop(){
+        T ret = this.poll();
+        if(ret == null){
+            throw new IndexOutOfBoundsException("cannot get top from an empty priority queue!");
+        }
+        return ret;
+    }
+
+    /**
+     * get and extract an element close to the top of the priority queue
+     *
+     * @return the element, or null if the priority queue is empty
+     */
+    public T poll(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // a few tries with two random heaps, then a full scan so an almost empty queue is not missed
+        for(int attempt = 0; attempt < this.heaps.length; attempt++){
+            int i = random.nextInt(this.heaps.length);
+            int j = random.nextInt(this.heaps.length);
+            T top = this.tops.get(i);
+            T other = this.tops.get(j);
+            if(top == null && other == null){
+                continue;
+            }
+            if(top == null || (other != null && this.better(other, top))){
+                i = j;
+            }
+            if(this.locks[i].tryLock()){
+                try{
+                    T ret = this.popLocked(i);
+                    if(ret != null){
+                        return ret;
+                    }
+                }finally{
+                    this.locks[i].unlock();
+                }
+            }
+        }
+        int start = random.nextInt(this.heaps.length);
+        for(int k = 0; k < this.heaps.length; k++){
+            int i = (start + k) % this.heaps.length;
+            if(this.tops.get(i) == null){
+                continue;
+            }
+            this.locks[i].lock();
+            try{
+                T ret = this.popLocked(i);
+                if(ret != null){
+                    return ret;
+                }
+            }finally{
+                this.locks[i].unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * helper method to pop from a heap whose lock is held
+     *
+     * @param i index of the heap
+     * @return the element, or null if the heap is empty
+     */
+    private T popLocked(int i){
+        PriorityQueue<T> heap = this.heaps[i];
+        if(heap.isEmpty()){
+            return null;
+        }
+        T ret = heap.pop();
+        this.tops.set(i, heap.isEmpty() ? null : heap.peek());
+        this.count.decrement();
+        return ret;
+    }
+}
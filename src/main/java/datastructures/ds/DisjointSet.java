@@ -1,10 +1,13 @@
 package datastructures.ds;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * represents a disjoint set class using union/find algorithm.
- * optimized with union by rank (height) and path compression.
+ * optimized with union by size and path halving, on a plain int array so find never boxes and never recurses.
+ * new single element sets can be added with makeSet, the array grows like an ArrayList.
+ * the members of each set are also linked in a circular list, so a set can be listed in O(set size).
  */
 public class DisjointSet{
 
@@ -13,14 +16,19 @@ public class DisjointSet{
      * negative value: size of the set
      * positive value: parent of the current index
      */
-    private final ArrayList<Integer> parents;
+    private int[] parents;
 
     /**
-     * array to store the rank (height) of an index
+     * array to store the next member of the set of an index, circular within each set
      */
-    private final ArrayList<Integer> rank;
+    private int[] next;
 
-    private final int size;
+    private int size;
+
+    /**
+     * number of sets, kept up to date by union and makeSet
+     */
+    private int components;
 
     private boolean withinRange(int index){
         return index >= 0 && index < this.size;
@@ -43,11 +51,12 @@ public class DisjointSet{
             throw new IllegalArgumentException("size cannot be smaller than 0");
         }
         this.size = size;
-        this.parents = new ArrayList<Integer>();
-        this.rank = new ArrayList<Integer>();
-        for(int i = 0; i < this.size; i++){
-            this.parents.add(-1);  //size is 1 at start
-            this.rank.add(1); //rank is 1 at start
+        this.components = size;
+        this.parents = new int[size];
+        Arrays.fill(this.parents, -1);  //size is 1 at start
+        this.next = new int[size];
+        for(int i = 0; i < size; i++){
+            this.next[i] = i;  //each node is alone in its list at start
         }
     }
 
@@ -61,7 +70,27 @@ public class DisjointSet{
     }
 
     /**
-     * find the head of any node and path compress while finding
+     * add a new node in a set of its own
+     *
+     * @return index of the new node
+     */
+    public int makeSet(){
+        if(this.size == this.parents.length){
+            if(this.size == Integer.MAX_VALUE - 8){
+                throw new IllegalStateException("disjoint set is too large!");
+            }
+            int capacity = (int) Math.min(Math.max(8L, this.size + ((long) this.size >> 1)), Integer.MAX_VALUE - 8);
+            this.parents = Arrays.copyOf(this.parents, capacity);
+            this.next = Arrays.copyOf(this.next, capacity);
+        }
+        this.parents[this.size] = -1;
+        this.next[this.size] = this.size;
+        this.components++;
+        return this.size++;
+    }
+
+    /**
+     * find the head of any node and halve the path while finding
      *
      * @param p index of node
      * @return index of head
@@ -70,11 +99,26 @@ public class DisjointSet{
         if(!this.withinRange(p)){
             throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
         }
-        if(this.parents.get(p) < 0){
-            return p;
+        return this.root(p);
+    }
+
+    /**
+     * helper method to find the head of a node known to be in range, halving the path
+     *
+     * @param p index of node
+     * @return index of head
+     */
+    private int root(int p){
+        int[] parents = this.parents;
+        while(parents[p] >= 0){
+            int grandparent = parents[parents[p]];
+            if(grandparent < 0){
+                return parents[p];
+            }
+            parents[p] = grandparent;  // path halving, every other node skips a level
+            p = grandparent;
         }
-        this.parents.set(p, this.find(this.parents.get(p)));  // path compression
-        return this.parents.get(p);
+        return p;
     }
 
     /**
@@ -88,7 +132,7 @@ public class DisjointSet{
             throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
         }
         int head = this.find(p);
-        return -this.parents.get(head);
+        return -this.parents[head];
     }
 
     /**
@@ -106,7 +150,7 @@ public class DisjointSet{
     }
 
     /**
-     * union two node by rank. If ranks are the same, points the first node to the second node
+     * union two node by size. If sizes are the same, points the first node to the second node
      *
      * @param p first node
      * @param q second node
@@ -115,27 +159,61 @@ public class DisjointSet{
         if(!this.withinRange(p) || !this.withinRange(q)){
             throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
         }
-        int pRoot = this.find(p);
-        int qRoot = this.find(q);
-        if(pRoot == qRoot){
-            return;
+        this.link(this.root(p), this.root(q));
+    }
+
+    /**
+     * union every pair of nodes ps[i] and qs[i], checking the ranges once up front instead of per pair
+     *
+     * @param ps first nodes
+     * @param qs second nodes, as many as first nodes
+     * @return number of unions that merged two different sets
+     */
+    public int unionAll(int[] ps, int[] qs){
+        if(ps.length != qs.length){
+            throw new IllegalArgumentException("given arrays must have the same length!");
+        }
+        for(int i = 0; i < ps.length; i++){
+            if(!this.withinRange(ps[i]) || !this.withinRange(qs[i])){
+                throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+            }
         }
-        int pRank = this.rank.get(pRoot);
-        int pSize = -this.parents.get(pRoot);
-        int qRank = this.rank.get(qRoot);
-        int qSize = -this.parents.get(qRoot);
-        if(pRank <= qRank){
-            this.parents.set(pRoot, qRoot); // p root points to q root since rank of p is smaller
-            this.parents.set(qRoot, -(pSize + qSize)); // update the size of q root
-            if(pRank == qRank){
-                this.rank.set(qRoot, qRank + 1); // maintain rank. q rank increments
-                // because p points to q when 2 ranks are equal
+        int merged = 0;
+        for(int i = 0; i < ps.length; i++){
+            if(this.link(this.root(ps[i]), this.root(qs[i]))){
+                merged++;
             }
+        }
+        return merged;
+    }
+
+    /**
+     * helper method to union two heads by size
+     *
+     * @param pRoot head of the first set
+     * @param qRoot head of the second set
+     * @return true if the sets were different
+     */
+    private boolean link(int pRoot, int qRoot){
+        if(pRoot == qRoot){
+            return false;
+        }
+        int pSize = -this.parents[pRoot];
+        int qSize = -this.parents[qRoot];
+        if(pSize <= qSize){
+            this.parents[pRoot] = qRoot; // p root points to q root since p set is smaller
+            this.parents[qRoot] = -(pSize + qSize); // update the size of q root
         }else{
-            // pRank > qRank
-            this.parents.set(qRoot, pRoot);
-            this.parents.set(pRoot, -(pSize + qSize)); // update the size of q root
+            // pSize > qSize
+            this.parents[qRoot] = pRoot;
+            this.parents[pRoot] = -(pSize + qSize); // update the size of p root
         }
+        // swapping the next of two nodes in different circular lists splices them into one
+        int temp = this.next[pRoot];
+        this.next[pRoot] = this.next[qRoot];
+        this.next[qRoot] = temp;
+        this.components--;
+        return true;
     }
 
     /**
@@ -144,12 +222,37 @@ public class DisjointSet{
      * @return number of connected components
      */
     public int getNumberOfComponents(){
-        int count = 0;
+        return this.components;
+    }
+
+    /**
+     * get every node in the set of a node, in O(set size)
+     *
+     * @param p index of node
+     * @return indices of the nodes, starting with p
+     */
+    public int[] members(int p){
+        int[] ret = new int[this.getSetSize(p)];
+        int node = p;
+        for(int i = 0; i < ret.length; i++){
+            ret[i] = node;
+            node = this.next[node];
+        }
+        return ret;
+    }
+
+    /**
+     * get every set in the disjoint set
+     *
+     * @return the nodes of each set, each set starting with its head
+     */
+    public ArrayList<int[]> components(){
+        ArrayList<int[]> ret = new ArrayList<>(this.components);
         for(int i = 0; i < this.size; i++){
-            if(this.parents.get(i) < 0){
-                count++;
+            if(this.parents[i] < 0){
+                ret.add(this.members(i));
             }
         }
-        return count;
+        return ret;
     }
 }
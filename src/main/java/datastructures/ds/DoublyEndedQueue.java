@@ -1,7 +1,12 @@
 package datastructures.ds;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * represents a data structure of doubly ended queue
@@ -231,6 +236,128 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
         return new NodeIterator<>(this.head, true);
     }
 
+    /**
+     * represents a splittable Node spliterator over a run of nodes of DEQ. a split walks to the middle of
+     * the run, so both halves know their exact size. the DEQ must not be modified while it is traversed.
+     *
+     * @param <T> type of data
+     */
+    private static class NodeSpliterator<T> implements Spliterator<T>{
+        private Node<T> current;
+        private int remaining;
+
+        /**
+         * default constructor for Node spliterator
+         *
+         * @param first     first node of the run
+         * @param remaining number of nodes in the run
+         */
+        private NodeSpliterator(Node<T> first, int remaining){
+            this.current = first;
+            this.remaining = remaining;
+        }
+
+        /**
+         * perform the action on the next element if any
+         *
+         * @param action action to perform
+         * @return true if an element existed
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action){
+            if(this.remaining == 0){
+                return false;
+            }
+            action.accept(this.current.getValue());
+            this.current = this.current.getNext();
+            this.remaining -= 1;
+            return true;
+        }
+
+        /**
+         * perform the action on every remaining element
+         *
+         * @param action action to perform
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super T> action){
+            Node<T> node = this.current;
+            for(int i = this.remaining; i > 0; i--){
+                action.accept(node.getValue());
+                node = node.getNext();
+            }
+            this.current = node;
+            this.remaining = 0;
+        }
+
+        /**
+         * split off the first half of the remaining elements
+         *
+         * @return spliterator of the first half, or null if too small to split
+         */
+        @Override
+        public Spliterator<T> trySplit(){
+            if(this.remaining < 2){
+                return null;
+            }
+            int half = this.remaining / 2;
+            NodeSpliterator<T> prefix = new NodeSpliterator<>(this.current, half);
+            for(int i = 0; i < half; i++){
+                this.current = this.current.getNext();
+            }
+            this.remaining -= half;
+            return prefix;
+        }
+
+        /**
+         * get the exact number of remaining elements
+         *
+         * @return number of remaining elements
+         */
+        @Override
+        public long estimateSize(){
+            return this.remaining;
+        }
+
+        /**
+         * get the characteristics of the spliterator
+         *
+         * @return ORDERED, SIZED and SUBSIZED
+         */
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * get the spliterator of DEQ
+     *
+     * @return ordered and sized spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator(){
+        return new NodeSpliterator<>(this.head, this.count);
+    }
+
+    /**
+     * get a sequential stream of DEQ
+     *
+     * @return stream
+     */
+    public Stream<T> stream(){
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * get a parallel stream of DEQ
+     *
+     * @return parallel stream
+     */
+    public Stream<T> parallelStream(){
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
     /**
      * insert element at the start of the DEQ
      *
@@ -245,6 +372,37 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
         this.count += 1;
     }
 
+    /**
+     * helper method to get the node at the given index from start, walking from whichever end is closer
+     *
+     * @param index index from start, within [0, size)
+     * @return the node
+     */
+    private Node<T> nodeAt(int index){
+        Node<T> current = this.head;
+        if(index <= this.count / 2){
+            for(int i = 0; i < index; i++){
+                current = current.getNext();
+            }
+        }else{
+            for(int i = this.count; i > index; i--){
+                current = current.getPrev();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * helper method to check an index of an existing element
+     *
+     * @param index index from start
+     */
+    private void checkIndex(int index){
+        if(index < 0 || index >= this.size()){
+            throw new IndexOutOfBoundsException("given index is out of bound!");
+        }
+    }
+
     /**
      * insert element to start of the DEQ by index
      *
@@ -262,11 +420,11 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
         if(index > this.size()){
             throw new IndexOutOfBoundsException("given index is out of bound!");
         }
-        Node<T> current = this.head;
-        while(index > 0){
-            current = current.getNext();
-            index -= 1;
+        if(index == this.size()){
+            this.insertLast(element);
+            return;
         }
+        Node<T> current = this.nodeAt(index);
         new Node<T>(element, current.getPrev(), current);
         this.count += 1;
     }
@@ -295,24 +453,164 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
         if(index < 0){
             throw new IllegalArgumentException("index cannot be negative!");
         }
-        if(index == 0){
-            this.insertLast(element);
+        if(index > this.size()){
+            throw new IndexOutOfBoundsException("given index is out of bound!");
+        }
+        this.insertFirst(element, this.size() - index);
+    }
+
+    /**
+     * helper method to build a chain of nodes that hugs itself from the given elements
+     *
+     * @param elements elements in order
+     * @param <T>      type of data
+     * @return first node of the chain, or null if no elements
+     */
+    private static <T> Node<T> chain(Collection<? extends T> elements){
+        Node<T> first = null;
+        for(T element : elements){
+            if(first == null){
+                first = new Node<>(element);
+            }else{
+                new Node<>(element, first.getPrev(), first);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * helper method to link a chain of nodes that hugs itself before the given node of DEQ
+     *
+     * @param first  first node of the chain
+     * @param before node of DEQ to link the chain before
+     * @param <T>    type of data
+     */
+    private static <T> void link(Node<T> first, Node<T> before){
+        Node<T> last = first.getPrev();
+        Node<T> prev = before.getPrev();
+        prev.setNext(first);
+        first.setPrev(prev);
+        last.setNext(before);
+        before.setPrev(last);
+    }
+
+    /**
+     * insert all elements at the start of the DEQ, keeping their order.
+     * the nodes are chained first and linked into DEQ in one step.
+     *
+     * @param elements new elements
+     */
+    public void insertAllFirst(Collection<? extends T> elements){
+        Node<T> first = chain(elements);
+        if(first == null){
             return;
         }
-        if(index == this.size()){
-            this.insertFirst(element);
+        if(!this.isEmpty()){
+            link(first, this.head);
+        }
+        this.head = first;
+        this.count += elements.size();
+    }
+
+    /**
+     * insert all elements at the end of the DEQ, keeping their order.
+     * the nodes are chained first and linked into DEQ in one step.
+     *
+     * @param elements new elements
+     */
+    public void insertAllLast(Collection<? extends T> elements){
+        Node<T> first = chain(elements);
+        if(first == null){
             return;
         }
+        if(this.isEmpty()){
+            this.head = first;
+        }else{
+            link(first, this.head);
+        }
+        this.count += elements.size();
+    }
+
+    /**
+     * move all elements of the other DEQ to the end of this DEQ in O(1), leaving the other DEQ empty
+     *
+     * @param other DEQ to take elements from
+     */
+    public void concat(DoublyEndedQueue<T> other){
+        this.splice(this.size(), other);
+    }
+
+    /**
+     * move all elements of the other DEQ into this DEQ before the given index from start, leaving the other
+     * DEQ empty. linking is O(1); finding the index walks from the nearer end, so both ends are O(1).
+     *
+     * @param index index from start
+     * @param other DEQ to take elements from
+     */
+    public void splice(int index, DoublyEndedQueue<T> other){
+        if(other == this){
+            throw new IllegalArgumentException("cannot splice a DEQ into itself!");
+        }
+        if(index < 0){
+            throw new IllegalArgumentException("index cannot be negative!");
+        }
         if(index > this.size()){
             throw new IndexOutOfBoundsException("given index is out of bound!");
         }
+        if(other.isEmpty()){
+            return;
+        }
+        if(this.isEmpty()){
+            this.head = other.head;
+        }else{
+            link(other.head, index == this.size() ? this.head : this.nodeAt(index));
+            if(index == 0){
+                this.head = other.head;
+            }
+        }
+        this.count += other.count;
+        other.head = null;
+        other.count = 0;
+    }
+
+    /**
+     * remove all elements from the start of DEQ and add them to the given collection
+     *
+     * @param collection collection to add elements to
+     * @return number of elements moved
+     */
+    public int drainTo(Collection<? super T> collection){
+        return this.drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * remove at most max elements from the start of DEQ and add them to the given collection.
+     * the removed nodes are unlinked from DEQ in one step.
+     *
+     * @param collection collection to add elements to
+     * @param max        maximum number of elements to move
+     * @return number of elements moved
+     */
+    public int drainTo(Collection<? super T> collection, int max){
+        int n = Math.min(max, this.count);
+        if(n <= 0){
+            return 0;
+        }
         Node<T> current = this.head;
-        while(index > 0){
-            current = current.getPrev();
-            index -= 1;
+        for(int i = 0; i < n; i++){
+            collection.add(current.getValue());
+            current = current.getNext();
         }
-        new Node<T>(element, current.getPrev(), current);
-        this.count += 1;
+        if(n == this.count){
+            this.head = null;
+        }else{
+            Node<T> last = this.head.getPrev();
+            current.setPrev(last);
+            last.setNext(current);
+            this.head = current;
+        }
+        this.count -= n;
+        return n;
     }
 
     /**
@@ -363,6 +661,32 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
         this.head.getPrev().setValue(newValue);
     }
 
+    /**
+     * get the element at the given index from start
+     *
+     * @param index index from start
+     * @return the element
+     */
+    public T get(int index){
+        this.checkIndex(index);
+        return this.nodeAt(index).getValue();
+    }
+
+    /**
+     * replace the element at the given index from start
+     *
+     * @param index    index from start
+     * @param newValue new value
+     * @return the replaced element
+     */
+    public T set(int index, T newValue){
+        this.checkIndex(index);
+        Node<T> node = this.nodeAt(index);
+        T ret = node.getValue();
+        node.setValue(newValue);
+        return ret;
+    }
+
     /**
      * find the first occurrence of given element and update the value
      *
@@ -371,14 +695,11 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
      * @return true if found and updated, false if not found
      */
     public boolean update(T element, T newValue){
-        if(!this.contains(element)){
+        Node<T> node = this.find(element);
+        if(node == null){
             return false;
         }
-        Node<T> current = this.head;
-        while(!current.getValue().equals(element)){
-            current = current.getNext();
-        }
-        current.setValue(newValue);
+        node.setValue(newValue);
         return true;
     }
 
@@ -429,6 +750,54 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
         return ret;
     }
 
+    /**
+     * get and remove the element at the given index from start
+     *
+     * @param index index from start
+     * @return the removed element
+     */
+    public T removeAt(int index){
+        this.checkIndex(index);
+        Node<T> node = this.nodeAt(index);
+        this.unlink(node);
+        return node.getValue();
+    }
+
+    /**
+     * helper method to find the node of the first occurrence of the given item in one pass
+     *
+     * @param item item to find
+     * @return the node, or null if not found
+     */
+    private Node<T> find(T item){
+        Node<T> current = this.head;
+        for(int i = 0; i < this.count; i++){
+            if(current.getValue().equals(item)){
+                return current;
+            }
+            current = current.getNext();
+        }
+        return null;
+    }
+
+    /**
+     * helper method to unlink the given node from DEQ
+     *
+     * @param node node in DEQ
+     */
+    private void unlink(Node<T> node){
+        if(this.count == 1){
+            this.head = null;
+        }else{
+            node.getPrev().setNext(node.getNext());
+            node.getNext().setPrev(node.getPrev());
+            if(node == this.head){
+                this.head = node.getNext();
+            }
+        }
+        this.count -= 1;
+    }
+
     /**
      * check if DEQ contains given item
      *
@@ -436,12 +805,7 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
      * @return true if DEQ contains the item
      */
     public boolean contains(T item){
-        for(T t : this){
-            if(t.equals(item)){
-                return true;
-            }
-        }
-        return false;
+        return this.find(item) != null;
     }
 
     /**
@@ -451,20 +815,11 @@ public class DoublyEndedQueue<T> implements Iterable<T>{
      * @return true if removed successfully, false if given item not found
      */
     public boolean remove(T item){
-        if(!this.contains(item)){
+        Node<T> node = this.find(item);
+        if(node == null){
             return false;
         }
-        if(item.equals(this.peekFirst())){
-            this.removeFirst();
-        }else{
-            Node<T> current = this.head;
-            while(!current.getValue().equals(item)){
-                current = current.getNext();
-            }
-            current.getPrev().setNext(current.getNext());
-            current.getNext().setPrev(current.getPrev());
-            this.count -= 1;
-        }
+        this.unlink(node);
         return true;
     }
 
@@ -0,0 +1,335 @@
+package datastructures.ds;
+
+/**
+ * represents a priority queue whose elements are addressed by an int handle in [0, capacity), so the key of
+ * a queued element can be changed or removed in O(log n) instead of inserting a duplicate and skipping the
+ * stale entry later.
+ * it wraps a PriorityQueue as its heap rather than extending it, so only the handle based operations are
+ * exposed, and hooks into swap to keep track of where every handle sits.
+ *
+ * @param <T> the type of key
+ */
+public class IndexPriorityQueue<T extends Comparable<T>>{
+
+    /**
+     * represents the heap of keys, which reports every swap back to the handle index
+     */
+    private final class Heap extends PriorityQueue<T>{
+
+        /**
+         * default constructor to create an empty heap
+         *
+         * @param isMaxHeap the type of heap to construct
+         */
+        private Heap(boolean isMaxHeap){
+            super(isMaxHeap);
+        }
+
+        /**
+         * swap two elements in the heap and their handles
+         *
+         * @param i index of the first element
+         * @param j index of the second element
+         */
+        @Override
+        protected void swap(int i, int j){
+            super.swap(i, j);
+            int temp = IndexPriorityQueue.this.handles[i];
+            IndexPriorityQueue.this.handles[i] = IndexPriorityQueue.this.handles[j];
+            IndexPriorityQueue.this.handles[j] = temp;
+            IndexPriorityQueue.this.positions[IndexPriorityQueue.this.handles[i]] = i;
+            IndexPriorityQueue.this.positions[IndexPriorityQueue.this.handles[j]] = j;
+        }
+    }
+
+    /**
+     * if true, the top of the heap is the maximum value
+     */
+    private final boolean isMaxHeap;
+
+    /**
+     * heap of keys, starting at index = 1
+     */
+    private final PriorityQueue<T> heap;
+
+    /**
+     * handle of the element at each heap index, starting at index = 1 like data
+     */
+    private final int[] handles;
+
+    /**
+     * heap index of each handle, or 0 if the handle is not in the queue
+     */
+    private final int[] positions;
+
+    /**
+     * default constructor to create an empty priority queue for handles in [0, capacity)
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param capacity  number of handles
+     */
+    public IndexPriorityQueue(boolean isMaxHeap, int capacity){
+        if(capacity < 0){
+            throw new IllegalArgumentException("capacity cannot be negative!");
+        }
+        this.isMaxHeap = isMaxHeap;
+        this.handles = new int[capacity + 1];
+        this.positions = new int[capacity];
+        this.heap = new Heap(isMaxHeap);
+        this.heap.data.ensureCapacity(capacity + 1);
+    }
+
+    /**
+     * size of the priority queue
+     *
+     * @return size in integer
+     */
+    public int size(){
+        return this.heap.size();
+    }
+
+    /**
+     * determines if the priority queue is empty
+     *
+     * @return boolean value
+     */
+    public boolean isEmpty(){
+        return this.heap.isEmpty();
+    }
+
+    /**
+     * helper method to check a handle is in range
+     *
+     * @param handle handle to check
+     */
+    private void checkHandle(int handle){
+        if(handle < 0 || handle >= this.positions.length){
+            throw new IndexOutOfBoundsException("given handle is out of bound!");
+        }
+    }
+
+    /**
+     * helper method to check a handle is in range and in the queue
+     *
+     * @param handle handle to check
+     */
+    private void checkContains(int handle){
+        if(!this.contains(handle)){
+            throw new IllegalArgumentException("given handle is not in the priority queue!");
+        }
+    }
+
+    /**
+     * check if the given handle is in the priority queue
+     *
+     * @param handle handle to check
+     * @return true if the handle is queued
+     */
+    public boolean contains(int handle){
+        this.checkHandle(handle);
+        return this.positions[handle] != 0;
+    }
+
+    /**
+     * insert a new element with the given handle into the priority queue
+     *
+     * @param handle handle of the element, not already queued
+     * @param key    key of the element
+     */
+    public void insert(int handle, T key){
+        if(this.contains(handle)){
+            throw new IllegalArgumentException("given handle is already in the priority queue!");
+        }
+        this.heap.data.add(key);
+        int i = this.size();
+        this.handles[i] = handle;
+        this.positions[handle] = i;
+        this.heap.shiftUp(i);
+    }
+
+    /**
+     * insert every handle with its key into the priority queue.
+     * like PriorityQueue.insertAll, a large batch is appended and the whole heap is rebuilt in O(n)
+     *
+     * @param handles handles of the elements, none already queued or repeated
+     * @param keys    key of each handle
+     */
+    public void insertAll(int[] handles, T[] keys){
+        if(handles.length != keys.length){
+            throw new IllegalArgumentException("given arrays must have the same length!");
+        }
+        // mark every handle before changing anything, so a bad one leaves the queue as it was
+        for(int k = 0; k < handles.length; k++){
+            if(handles[k] < 0 || handles[k] >= this.positions.length || this.positions[handles[k]] != 0){
+                for(int j = 0; j < k; j++){
+                    this.positions[handles[j]] = 0;
+                }
+                this.checkHandle(handles[k]);
+                throw new IllegalArgumentException("given handle is already in the priority queue!");
+            }
+            this.positions[handles[k]] = -1;
+        }
+        int size = this.size();
+        int total = size + handles.length;
+        this.heap.data.ensureCapacity(total + 1);
+        for(int k = 0; k < handles.length; k++){
+            this.heap.data.add(keys[k]);
+            this.handles[size + k + 1] = handles[k];
+            this.positions[handles[k]] = size + k + 1;
+        }
+        if(PriorityQueue.shouldHeapify(handles.length, total)){
+            this.heap.heapify();
+            return;
+        }
+        for(int i = size + 1; i <= total; i++){
+            this.heap.shiftUp(i);
+        }
+    }
+
+    /**
+     * get the key of the given handle
+     *
+     * @param handle queued handle
+     * @return the key
+     */
+    public T keyOf(int handle){
+        this.checkContains(handle);
+        return this.heap.data.get(this.positions[handle]);
+    }
+
+    /**
+     * get the key of the element at the top of the priority queue
+     *
+     * @return the key
+     */
+    public T peek(){
+        return this.heap.peek();
+    }
+
+    /**
+     * get the handle of the element at the top of the priority queue
+     *
+     * @return the handle
+     */
+    public int peekHandle(){
+        this.heap.peek();
+        return this.handles[1];
+    }
+
+    /**
+     * get and extract the element at the top of the priority queue
+     *
+     * @return the key
+     */
+    public T pop(){
+        T ret = this.peek();
+        this.remove(this.handles[1]);
+        return ret;
+    }
+
+    /**
+     * get and extract the element at the top of the priority queue
+     *
+     * @return the handle
+     */
+    public int popHandle(){
+        int ret = this.peekHandle();
+        this.remove(ret);
+        return ret;
+    }
+
+    /**
+     * lower the key of the given handle
+     *
+     * @param handle queued handle
+     * @param key    new key, not greater than the current key
+     */
+    public void decreaseKey(int handle, T key){
+        if(key.compareTo(this.keyOf(handle)) > 0){
+            throw new IllegalArgumentException("new key is greater than the current key!");
+        }
+        int i = this.positions[handle];
+        this.heap.data.set(i, key);
+        if(this.isMaxHeap){
+            this.heap.shiftDown(i);
+        }else{
+            this.heap.shiftUp(i);
+        }
+    }
+
+    /**
+     * raise the key of the given handle
+     *
+     * @param handle queued handle
+     * @param key    new key, not less than the current key
+     */
+    public void increaseKey(int handle, T key){
+        if(key.compareTo(this.keyOf(handle)) < 0){
+            throw new IllegalArgumentException("new key is less than the current key!");
+        }
+        int i = this.positions[handle];
+        this.heap.data.set(i, key);
+        if(this.isMaxHeap){
+            this.heap.shiftUp(i);
+        }else{
+            this.heap.shiftDown(i);
+        }
+    }
+
+    /**
+     * change the key of the given handle in either direction
+     *
+     * @param handle queued handle
+     * @param key    new key
+     */
+    public void update(int handle, T key){
+        this.checkContains(handle);
+        int i = this.positions[handle];
+        this.heap.data.set(i, key);
+        this.heap.shiftUp(i);
+        this.heap.shiftDown(this.positions[handle]);
+    }
+
+    /**
+     * replace the key at the top of the priority queue, keeping its handle
+     *
+     * @param key new key
+     * @return the key that was at the top
+     */
+    public T replaceTop(T key){
+        T ret = this.peek();
+        this.update(this.handles[1], key);
+        return ret;
+    }
+
+    /**
+     * remove the given handle from the priority queue
+     *
+     * @param handle queued handle
+     * @return the key of the removed element
+     */
+    public T remove(int handle){
+        this.checkContains(handle);
+        int i = this.positions[handle];
+        int last = this.size();
+        this.heap.swap(i, last);
+        T ret = this.heap.data.remove(last);
+        this.positions[handle] = 0;
+        if(i < last){
+            int moved = this.handles[i];
+            this.heap.shiftUp(i);
+            this.heap.shiftDown(this.positions[moved]);
+        }
+        return ret;
+    }
+
+    /**
+     * remove every element from the priority queue
+     */
+    public void clear(){
+        for(int i = 1; i <= this.size(); i++){
+            this.positions[this.handles[i]] = 0;
+        }
+        this.heap.data.subList(1, this.heap.data.size()).clear();
+    }
+}
@@ -0,0 +1,175 @@
+package datastructures.ds;
+
+import java.util.Arrays;
+
+/**
+ * represents a priority queue of primitive ints with a heap stored in a raw int array.
+ * it mirrors PriorityQueue, including storing at index = 1, but compares ints directly instead of boxing
+ * them and calling compareTo through an ArrayList. shifting moves a hole instead of swapping, so each level
+ * costs one array write.
+ */
+public class IntPriorityQueue{
+
+    /**
+     * capacity of a priority queue created without a hint
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * if true, the top of the heap is the maximum value
+     */
+    private final boolean isMaxHeap;
+
+    /**
+     * array that stores data in the heap starting at index = 1 for convenience
+     */
+    protected int[] data;
+
+    /**
+     * number of elements in the heap
+     */
+    private int size;
+
+    /**
+     * default constructor to create an empty priority queue
+     *
+     * @param isMaxHeap the type of heap to construct
+     */
+    public IntPriorityQueue(boolean isMaxHeap){
+        this(isMaxHeap, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructor to create an empty priority queue that holds the given number of elements before growing
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param capacity  expected number of elements
+     */
+    public IntPriorityQueue(boolean isMaxHeap, int capacity){
+        if(capacity < 0){
+            throw new IllegalArgumentException("capacity cannot be negative!");
+        }
+        this.isMaxHeap = isMaxHeap;
+        this.data = new int[capacity + 1];
+        this.size = 0;
+    }
+
+    /**
+     * convenient constructor to create a priority queue from an array
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param arr       the array of data to construct the priority queue
+     */
+    public IntPriorityQueue(boolean isMaxHeap, int[] arr){
+        this(isMaxHeap, arr.length);
+        System.arraycopy(arr, 0, this.data, 1, arr.length);
+        this.size = arr.length;
+        for(int i = (this.size / 2); i > 0; i--){
+            this.shiftDown(i);
+        }
+    }
+
+    /**
+     * size of the priority queue
+     *
+     * @return size in integer
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * determines if the priority queue is empty
+     *
+     * @return boolean value
+     */
+    public boolean isEmpty(){
+        return this.size == 0;
+    }
+
+    /**
+     * helper method to compare two values
+     *
+     * @param a first value
+     * @param b second value
+     * @return true if a should be closer to the top than b
+     */
+    private boolean compare(int a, int b){
+        return this.isMaxHeap ? a > b : a < b;
+    }
+
+    /**
+     * helper method to perform shift up algorithm on the heap
+     *
+     * @param i index of the element to shift up
+     */
+    private void shiftUp(int i){
+        int value = this.data[i];
+        while(i > 1 && this.compare(value, this.data[i / 2])){
+            this.data[i] = this.data[i / 2];
+            i = i / 2;
+        }
+        this.data[i] = value;
+    }
+
+    /**
+     * helper method to perform shift down algorithm on the heap
+     *
+     * @param i index of the element to shift down
+     */
+    private void shiftDown(int i){
+        int value = this.data[i];
+        while((i * 2) <= this.size){  //while i has a left child
+            int child = i * 2;
+            if(child + 1 <= this.size && this.compare(this.data[child + 1], this.data[child])){
+                child += 1;
+            }
+            // both children are smaller, stop shifting down
+            if(!this.compare(this.data[child], value)){
+                break;
+            }
+            this.data[i] = this.data[child];
+            i = child;
+        }
+        this.data[i] = value;
+    }
+
+    /**
+     * insert a new element into the priority queue
+     *
+     * @param element new element
+     */
+    public void insert(int element){
+        if(this.size + 1 == this.data.length){
+            this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, 2));
+        }
+        this.size += 1;
+        this.data[this.size] = element;
+        this.shiftUp(this.size);
+    }
+
+    /**
+     * get the element at the top of the priority queue
+     *
+     * @return the element
+     */
+    public int peek(){
+        if(this.isEmpty()){
+            throw new IndexOutOfBoundsException("cannot get top from an empty priority queue!");
+        }
+        return this.data[1];
+    }
+
+    /**
+     * get and extract the element at the top of the priority queue
+     *
+     * @return the element
+     */
+    public int pop(){
+        int ret = this.peek();
+        this.data[1] = this.data[this.size];
+        this.size -= 1;
+        this.shiftDown(1);
+        return ret;
+    }
+}
@@ -0,0 +1,175 @@
+package datastructures.ds;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * represents a disjoint set of arbitrary elements, such as the vertices of a graph.
+ * each element is given a dense int id the first time it is seen, and the sets themselves live in a
+ * DisjointSet over those ids, so elements can be discovered while the sets are being built.
+ *
+ * @param <T> type of element, with a consistent equals and hashCode
+ */
+public class ObjectDisjointSet<T>{
+
+    /**
+     * id of each element
+     */
+    private final HashMap<T, Integer> ids;
+
+    /**
+     * element of each id
+     */
+    private final ArrayList<T> elements;
+
+    /**
+     * sets of ids
+     */
+    private final DisjointSet sets;
+
+    /**
+     * default constructor to initialize an empty disjoint set
+     */
+    public ObjectDisjointSet(){
+        this.ids = new HashMap<>();
+        this.elements = new ArrayList<>();
+        this.sets = new DisjointSet();
+    }
+
+    /**
+     * helper method to get the id of an element that must be in the disjoint set
+     *
+     * @param element element to look up
+     * @return id of the element
+     */
+    private int idOf(T element){
+        Integer id = this.ids.get(element);
+        if(id == null){
+            throw new IllegalArgumentException("given element is not in this disjoint set!");
+        }
+        return id;
+    }
+
+    /**
+     * number of elements in the disjoint set
+     *
+     * @return size in int
+     */
+    public int getSize(){
+        return this.elements.size();
+    }
+
+    /**
+     * check if the element is in the disjoint set
+     *
+     * @param element element to check
+     * @return true if the element has been added
+     */
+    public boolean contains(T element){
+        return this.ids.containsKey(element);
+    }
+
+    /**
+     * add an element in a set of its own, unless it is already in the disjoint set
+     *
+     * @param element new element
+     * @return id of the element
+     */
+    public int add(T element){
+        Integer id = this.ids.get(element);
+        if(id != null){
+            return id;
+        }
+        int newId = this.sets.makeSet();
+        this.ids.put(element, newId);
+        this.elements.add(element);
+        return newId;
+    }
+
+    /**
+     * find the representative element of the set of an element
+     *
+     * @param element element in the disjoint set
+     * @return representative element
+     */
+    public T find(T element){
+        return this.elements.get(this.sets.find(this.idOf(element)));
+    }
+
+    /**
+     * get the set size of an element
+     *
+     * @param element element in the disjoint set
+     * @return size in int
+     */
+    public int getSetSize(T element){
+        return this.sets.getSetSize(this.idOf(element));
+    }
+
+    /**
+     * find out if 2 elements are connected
+     *
+     * @param p first element
+     * @param q second element
+     * @return true if two elements are in the same set
+     */
+    public boolean isConnected(T p, T q){
+        return this.sets.isConnected(this.idOf(p), this.idOf(q));
+    }
+
+    /**
+     * union the sets of two elements, adding either element that is not in the disjoint set yet
+     *
+     * @param p first element
+     * @param q second element
+     */
+    public void union(T p, T q){
+        this.sets.union(this.add(p), this.add(q));
+    }
+
+    /**
+     * Get the number of connected components in the disjoint set.
+     *
+     * @return number of connected components
+     */
+    public int getNumberOfComponents(){
+        return this.sets.getNumberOfComponents();
+    }
+
+    /**
+     * get every element in the set of an element, in O(set size)
+     *
+     * @param element element in the disjoint set
+     * @return the elements, starting with the given one
+     */
+    public ArrayList<T> members(T element){
+        return this.toElements(this.sets.members(this.idOf(element)));
+    }
+
+    /**
+     * get every set in the disjoint set
+     *
+     * @return the elements of each set, each set starting with its representative
+     */
+    public ArrayList<ArrayList<T>> components(){
+        ArrayList<ArrayList<T>> ret = new ArrayList<>();
+        for(int[] ids : this.sets.components()){
+            ret.add(this.toElements(ids));
+        }
+        return ret;
+    }
+
+    /**
+     * helper method to map ids back to their elements
+     *
+     * @param ids ids of elements
+     * @return the elements
+     */
+    private ArrayList<T> toElements(int[] ids){
+        ArrayList<T> ret = new ArrayList<>(ids.length);
+        for(int id : ids){
+            ret.add(this.elements.get(id));
+        }
+        return ret;
+    }
+}
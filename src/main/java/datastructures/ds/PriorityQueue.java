@@ -3,9 +3,13 @@ package datastructures.ds;
 import datastructures.util.Utils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 
 /**
- * represents a priority queue data structure with heap
+ * represents a priority queue data structure with heap.
+ * the heap is binary by default; a d-ary heap with arity 4 or 8 is shallower and keeps all children of a
+ * node next to each other, so popping from a large heap touches fewer cache lines at the cost of more
+ * comparisons per level. subclasses can change the layout by overriding parent, firstChild and lastChild.
  *
  * @param <T> the type of data
  */
@@ -14,7 +18,12 @@ public class PriorityQueue<T extends Comparable<T>>{
     /**
      * if true, the top of the heap is the maximum value
      */
-    private final boolean isMaxHeap;
+    protected final boolean isMaxHeap;
+
+    /**
+     * number of children of each node
+     */
+    protected final int arity;
 
     /**
      * array that stores data in the heap starting at index = 1 for convenience
@@ -22,28 +31,51 @@ public class PriorityQueue<T extends Comparable<T>>{
     protected final ArrayList<T> data;
 
     /**
-     * default constructor to create an empty priority queue
+     * default constructor to create an empty binary heap priority queue
      *
      * @param isMaxHeap the type of heap to construct
      */
     public PriorityQueue(boolean isMaxHeap){
+        this(isMaxHeap, 2);
+    }
+
+    /**
+     * constructor to create an empty d-ary heap priority queue
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param arity     number of children of each node, typically 2, 4 or 8
+     */
+    public PriorityQueue(boolean isMaxHeap, int arity){
+        if(arity < 2){
+            throw new IllegalArgumentException("arity must be at least 2!");
+        }
         this.isMaxHeap = isMaxHeap;
+        this.arity = arity;
         this.data = new ArrayList<>();
         this.data.add(null);  // we start storing at index = 1
     }
 
     /**
-     * convenient constructor to create a priority queue from an array
+     * convenient constructor to create a binary heap priority queue from an array
      *
      * @param isMaxHeap the type of heap to construct
      * @param arr       the array of data to construct the priority queue
      */
     public PriorityQueue(boolean isMaxHeap, ArrayList<T> arr){
-        this(isMaxHeap);
+        this(isMaxHeap, 2, arr);
+    }
+
+    /**
+     * convenient constructor to create a d-ary heap priority queue from an array
+     *
+     * @param isMaxHeap the type of heap to construct
+     * @param arity     number of children of each node, typically 2, 4 or 8
+     * @param arr       the array of data to construct the priority queue
+     */
+    public PriorityQueue(boolean isMaxHeap, int arity, ArrayList<T> arr){
+        this(isMaxHeap, arity);
         this.data.addAll(arr);
-        for(int i = (this.size() / 2); i > 0; i--){
-            this.shiftDown(i);
-        }
+        this.heapify();
     }
 
     /**
@@ -78,15 +110,56 @@ public class PriorityQueue<T extends Comparable<T>>{
         return this.data.get(i).compareTo(this.data.get(j)) < 0;
     }
 
+    /**
+     * helper method to get the index of the parent of a node
+     *
+     * @param i index of the node, greater than 1
+     * @return index of the parent
+     */
+    protected int parent(int i){
+        return (i - 2) / this.arity + 1;
+    }
+
+    /**
+     * helper method to get the index of the first child of a node, children are stored consecutively
+     *
+     * @param i index of the node
+     * @return index of the first child, which may be beyond the heap
+     */
+    protected int firstChild(int i){
+        return this.arity * (i - 1) + 2;
+    }
+
+    /**
+     * helper method to get the index of the last child of a node
+     *
+     * @param i index of the node
+     * @return index of the last child, which may be beyond the heap
+     */
+    protected int lastChild(int i){
+        return this.arity * i + 1;
+    }
+
+    /**
+     * helper method to swap two elements in the heap, subclasses that track positions hook in here
+     *
+     * @param i index of the first element
+     * @param j index of the second element
+     */
+    protected void swap(int i, int j){
+        Utils.swap(this.data, i, j);
+    }
+
     /**
      * helper method to perform shift up algorithm on the heap
      *
      * @param i index of the element to shift up
      */
-    private void shiftUp(int i){
-        while(i > 1 && this.compare(i, i / 2)){
-            Utils.swap(this.data, i, i / 2);
-            i = i / 2;
+    protected void shiftUp(int i){
+        while(i > 1 && this.compare(i, this.parent(i))){
+            int parent = this.parent(i);
+            this.swap(i, parent);
+            i = parent;
         }
     }
 
@@ -95,27 +168,61 @@ public class PriorityQueue<T extends Comparable<T>>{
      *
      * @param i index of the element to shift down
      */
-    private void shiftDown(int i){
-        while((i * 2) <= this.size()){  //while i has a left child
+    protected void shiftDown(int i){
+        int first;
+        while((first = this.firstChild(i)) <= this.size() && first > i){  //while i has a child
             int maxIndex = i;
-            if(this.compare(i * 2, maxIndex)){
-                maxIndex = i * 2;
-            }
-            if(i * 2 + 1 <= this.size() && this.compare(i * 2 + 1, maxIndex)){
-                //has right child and right child > current node and left child
-                maxIndex = i * 2 + 1;
+            int last = Math.min(this.lastChild(i), this.size());
+            for(int child = first; child <= last; child++){
+                //child > current node and every child before it
+                if(this.compare(child, maxIndex)){
+                    maxIndex = child;
+                }
             }
 
-            // both children are smaller, stop shifting down
+            // all children are smaller, stop shifting down
             if(i == maxIndex){
                 break;
             }
 
-            Utils.swap(this.data, i, maxIndex);
+            this.swap(i, maxIndex);
             i = maxIndex;
         }
     }
 
+    /**
+     * helper method to perform bottom-up shift down algorithm on the heap, due to Floyd.
+     * the element at i usually belongs near the bottom, as it came from the last leaf, so instead of
+     * comparing it against the children on every level, the best child is moved up all the way to a leaf
+     * and the element is then shifted up from there, which is rarely more than a level or two.
+     *
+     * @param i index of the element to shift down
+     */
+    protected void shiftDownBottomUp(int i){
+        int first;
+        while((first = this.firstChild(i)) <= this.size() && first > i){
+            int bestIndex = first;
+            int last = Math.min(this.lastChild(i), this.size());
+            for(int child = first + 1; child <= last; child++){
+                if(this.compare(child, bestIndex)){
+                    bestIndex = child;
+                }
+            }
+            this.swap(i, bestIndex);
+            i = bestIndex;
+        }
+        this.shiftUp(i);
+    }
+
+    /**
+     * helper method to restore the heap property on the whole array in O(n)
+     */
+    protected void heapify(){
+        for(int i = this.parent(this.size()); i > 0; i--){
+            this.shiftDown(i);
+        }
+    }
+
     /**
      * insert a new element into the priority queue
      *
@@ -145,10 +252,73 @@ public class PriorityQueue<T extends Comparable<T>>{
      */
     public T pop(){
         T ret = this.peek();
-        Utils.swap(this.data, 1, this.size());
+        this.swap(1, this.size());
         this.data.remove(this.size());
+        this.shiftDownBottomUp(1);
+        return ret;
+    }
+
+    /**
+     * replace the element at the top of the priority queue with a new element, cheaper than a pop followed
+     * by an insert since the heap is only shifted down once
+     *
+     * @param element new element
+     * @return the element that was at the top
+     */
+    public T replaceTop(T element){
+        T ret = this.peek();
+        this.data.set(1, element);
         this.shiftDown(1);
         return ret;
     }
+
+    /**
+     * helper method to decide if a batch is better added by rebuilding the heap than by shifting up each element
+     *
+     * @param batch number of elements added
+     * @param total number of elements once they are added
+     * @return true if the worst case of shifting up exceeds the O(n) rebuild
+     */
+    static boolean shouldHeapify(int batch, int total){
+        int height = 32 - Integer.numberOfLeadingZeros(total);
+        return (long) batch * height > 2L * total;
+    }
+
+    /**
+     * insert every element of the collection into the priority queue.
+     * a small batch is shifted up one element at a time; once shifting up could cost more than rebuilding,
+     * the batch is appended and the whole heap is rebuilt in O(n)
+     *
+     * @param elements new elements
+     */
+    public void insertAll(Collection<? extends T> elements){
+        int total = this.size() + elements.size();
+        this.data.ensureCapacity(total + 1);
+        if(shouldHeapify(elements.size(), total)){
+            this.data.addAll(elements);
+            this.heapify();
+            return;
+        }
+        for(T element : elements){
+            this.insert(element);
+        }
+    }
+
+    /**
+     * get and extract the k elements at the top of the priority queue
+     *
+     * @param k number of elements to extract
+     * @return the elements in the order they would be popped, fewer than k if the priority queue runs out
+     */
+    public ArrayList<T> popN(int k){
+        if(k < 0){
+            throw new IllegalArgumentException("k cannot be negative!");
+        }
+        ArrayList<T> ret = new ArrayList<>(Math.min(k, this.size()));
+        while(ret.size() < k && !this.isEmpty()){
+            ret.add(this.pop());
+        }
+        return ret;
+    }
 }
 
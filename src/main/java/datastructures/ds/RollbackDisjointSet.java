@@ -0,0 +1,173 @@
+package datastructures.ds;
+
+import java.util.Arrays;
+
+/**
+ * represents a disjoint set whose unions can be undone in reverse order, as offline dynamic connectivity needs.
+ * it unions by size but never compresses paths, so every union changes exactly two entries, which are pushed
+ * on a history stack and can be put back. union by size alone keeps every tree O(log n) high, so find is
+ * O(log n), and undoing a union is O(1).
+ * snapshot returns a token for the current point in history and rollback undoes every union made after it.
+ */
+public class RollbackDisjointSet{
+
+    /**
+     * array to store the parent and size of a set of an index
+     * negative value: size of the set
+     * positive value: parent of the current index
+     */
+    private final int[] parents;
+
+    /**
+     * history of unions, two entries each: the head linked under another head, and its entry before the union
+     */
+    private int[] history;
+
+    /**
+     * number of entries in history
+     */
+    private int top;
+
+    private final int size;
+
+    /**
+     * number of sets
+     */
+    private int components;
+
+    private boolean withinRange(int index){
+        return index >= 0 && index < this.size;
+    }
+
+    /**
+     * constructor to initialize a disjoint set with given size
+     *
+     * @param size size of the disjoint set
+     */
+    public RollbackDisjointSet(int size){
+        if(size < 0){
+            throw new IllegalArgumentException("size cannot be smaller than 0");
+        }
+        this.size = size;
+        this.components = size;
+        this.parents = new int[size];
+        Arrays.fill(this.parents, -1);  //size is 1 at start
+        this.history = new int[16];
+    }
+
+    /**
+     * getter for size
+     *
+     * @return size in int
+     */
+    public int getSize(){
+        return this.size;
+    }
+
+    /**
+     * find the head of any node, without changing the set
+     *
+     * @param p index of node
+     * @return index of head
+     */
+    public int find(int p){
+        if(!this.withinRange(p)){
+            throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+        }
+        while(this.parents[p] >= 0){
+            p = this.parents[p];
+        }
+        return p;
+    }
+
+    /**
+     * get the set size of a node
+     *
+     * @param p index of node
+     * @return size in int
+     */
+    public int getSetSize(int p){
+        return -this.parents[this.find(p)];
+    }
+
+    /**
+     * find out if 2 nodes are connected
+     *
+     * @param p first node
+     * @param q second node
+     * @return true if two nodes belong to the same parent
+     */
+    public boolean isConnected(int p, int q){
+        if(!this.withinRange(p) || !this.withinRange(q)){
+            throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+        }
+        return this.find(p) == this.find(q);
+    }
+
+    /**
+     * union two node by size. If sizes are the same, points the first node to the second node
+     *
+     * @param p first node
+     * @param q second node
+     */
+    public void union(int p, int q){
+        if(!this.withinRange(p) || !this.withinRange(q)){
+            throw new IllegalArgumentException("given node is not in the range of this disjoint set!");
+        }
+        int pRoot = this.find(p);
+        int qRoot = this.find(q);
+        if(pRoot == qRoot){
+            return;
+        }
+        if(-this.parents[pRoot] > -this.parents[qRoot]){
+            int temp = pRoot;
+            pRoot = qRoot;
+            qRoot = temp;
+        }
+        if(this.top == this.history.length){
+            this.history = Arrays.copyOf(this.history, this.history.length * 2);
+        }
+        this.history[this.top++] = pRoot;
+        this.history[this.top++] = this.parents[pRoot];
+        this.parents[qRoot] += this.parents[pRoot]; // both are negative sizes
+        this.parents[pRoot] = qRoot; // p root points to q root since p set is not larger
+        this.components--;
+    }
+
+    /**
+     * get a token for the current point in history
+     *
+     * @return token to pass to rollback
+     */
+    public int snapshot(){
+        return this.top;
+    }
+
+    /**
+     * undo every union made after the given snapshot, most recent first
+     *
+     * @param token token returned by snapshot, not yet rolled back past
+     */
+    public void rollback(int token){
+        if(token < 0 || token > this.top || (token & 1) != 0){
+            throw new IllegalArgumentException("given token is not a snapshot of this disjoint set!");
+        }
+        while(this.top > token){
+            int old = this.history[--this.top];
+            int pRoot = this.history[--this.top];
+            int qRoot = this.parents[pRoot];
+            this.parents[qRoot] -= old;
+            this.parents[pRoot] = old;
+            this.components++;
+        }
+    }
+
+    /**
+     * Get the number of connected components in the disjoint set.
+     *
+     * @return number of connected components
+     */
+    public int getNumberOfComponents(){
+        return this.components;
+    }
+}
@@ -0,0 +1,159 @@
+package datastructures.ds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * represents a tracker of the k largest (or smallest) elements of a stream in O(k) memory.
+ * it keeps the k best elements seen so far in a priority queue whose top is the worst of them, so a new
+ * element only has to beat the top to get in, and then replaces it with a single shift down. most elements
+ * of a long stream are rejected by one comparison.
+ * it is not thread-safe; to track a stream split across threads, give each thread its own tracker and merge
+ * them when done.
+ *
+ * @param <T> the type of data
+ */
+public class TopK<T extends Comparable<T>>{
+
+    /**
+     * maximum number of elements kept
+     */
+    private final int k;
+
+    /**
+     * if true, the largest elements are kept, otherwise the smallest
+     */
+    private final boolean largest;
+
+    /**
+     * the best elements so far, with the worst of them at the top
+     */
+    private final PriorityQueue<T> heap;
+
+    /**
+     * default constructor to track the k largest elements
+     *
+     * @param k maximum number of elements kept
+     */
+    public TopK(int k){
+        this(k, true);
+    }
+
+    /**
+     * constructor to track the k largest or smallest elements
+     *
+     * @param k       maximum number of elements kept
+     * @param largest if true, the largest elements are kept, otherwise the smallest
+     */
+    public TopK(int k, boolean largest){
+        if(k < 1){
+            throw new IllegalArgumentException("k must be at least 1!");
+        }
+        this.k = k;
+        this.largest = largest;
+        // a min heap keeps the largest elements, since the smallest of them is the first to go
+        this.heap = new PriorityQueue<>(!largest);
+        this.heap.data.ensureCapacity(k + 1);
+    }
+
+    /**
+     * maximum number of elements kept
+     *
+     * @return k
+     */
+    public int k(){
+        return this.k;
+    }
+
+    /**
+     * number of elements kept, at most k
+     *
+     * @return size in integer
+     */
+    public int size(){
+        return this.heap.size();
+    }
+
+    /**
+     * determines if no element has been offered yet
+     *
+     * @return boolean value
+     */
+    public boolean isEmpty(){
+        return this.heap.isEmpty();
+    }
+
+    /**
+     * get the worst element kept, which a new element has to beat once k elements are kept
+     *
+     * @return the element
+     */
+    public T threshold(){
+        return this.heap.peek();
+    }
+
+    /**
+     * offer an element from the stream
+     *
+     * @param element new element
+     * @return true if the element is now among the kept elements
+     */
+    public boolean offer(T element){
+        if(this.heap.size() < this.k){
+            this.heap.insert(element);
+            return true;
+        }
+        int cmp = element.compareTo(this.heap.peek());
+        if(this.largest ? cmp <= 0 : cmp >= 0){
+            return false;
+        }
+        this.heap.replaceTop(element);
+        return true;
+    }
+
+    /**
+     * offer every element kept by another tracker, such as one filled by another thread
+     *
+     * @param other tracker to merge, which is left unchanged
+     */
+    public void merge(TopK<T> other){
+        if(other == this){
+            return;
+        }
+        for(int i = 1; i <= other.heap.size(); i++){
+            this.offer(other.heap.data.get(i));
+        }
+    }
+
+    /**
+     * get a copy of the kept elements, best first, without changing the tracker
+     *
+     * @return the elements
+     */
+    public ArrayList<T> snapshot(){
+        ArrayList<T> ret = new ArrayList<>(this.heap.data.subList(1, this.heap.data.size()));
+        if(this.largest){
+            ret.sort(Collections.reverseOrder());
+        }else{
+            Collections.sort(ret);
+        }
+        return ret;
+    }
+
+    /**
+     * remove every kept element
+     */
+    public void clear(){
+        this.heap.data.subList(1, this.heap.data.size()).clear();
+    }
+
+    /**
+     * convert the tracker to a string, best first
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString(){
+        return this.snapshot().toString();
+    }
+}
@@ -0,0 +1,178 @@
+package datastructures.ds;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * represents a Chase-Lev work-stealing deque. a single owner thread pushes and pops at the bottom like a
+ * stack, while any number of thief threads steal from the top, so the owner works on its newest tasks and
+ * thieves take the oldest ones, which in a traversal tend to be the largest pieces of work.
+ * the owner side needs no CAS except when it races a thief for the last element, and a thief needs a
+ * single CAS on top. elements live in a circular array that the owner doubles when full; a thief still
+ * holding the old array reads the same element, since grown arrays are never written again.
+ * push and pop must only be called by the owner thread; steal, size and isEmpty may be called by any thread.
+ *
+ * @param <T> type of data
+ */
+public class WorkStealingDeque<T>{
+
+    /**
+     * capacity of a deque created without a hint
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private static final VarHandle TOP;
+
+    static{
+        try{
+            TOP = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "top", long.class);
+        }catch(ReflectiveOperationException e){
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * index of the oldest element, only ever increased by a successful CAS
+     */
+    private volatile long top;
+
+    /**
+     * index one past the newest element, only written by the owner
+     */
+    private volatile long bottom;
+
+    /**
+     * circular array of elements with a power of two length, replaced by the owner when full
+     */
+    private volatile Object[] elements;
+
+    /**
+     * default constructor to create an empty deque
+     */
+    public WorkStealingDeque(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructor to create an empty deque that holds at least the given number of elements before growing
+     *
+     * @param capacity expected number of elements
+     */
+    public WorkStealingDeque(int capacity){
+        if(capacity < 0){
+            throw new IllegalArgumentException("capacity cannot be negative!");
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, 1));
+        this.elements = new Object[size < capacity ? size << 1 : size];
+    }
+
+    /**
+     * get the number of elements, which may be stale by the time it returns
+     *
+     * @return size in int
+     */
+    public int size(){
+        long n = this.bottom - this.top;
+        return n < 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * check if deque is empty, which may be stale by the time it returns
+     *
+     * @return true if deque is empty
+     */
+    public boolean isEmpty(){
+        return this.bottom - this.top <= 0;
+    }
+
+    /**
+     * push element at the bottom, owner only
+     *
+     * @param element new element
+     */
+    public void push(T element){
+        if(element == null){
+            throw new IllegalArgumentException("element cannot be null!");
+        }
+        long b = this.bottom;
+        long t = this.top;
+        Object[] a = this.elements;
+        if(b - t > a.length - 1){
+            a = this.grow(a, t, b);
+        }
+        a[(int) b & (a.length - 1)] = element;
+        // the volatile write publishes the element to thieves
+        this.bottom = b + 1;
+    }
+
+    /**
+     * get and remove the element at the bottom, owner only
+     *
+     * @return newest element, or null if deque is empty or a thief took the last element
+     */
+    @SuppressWarnings("unchecked")
+    public T pop(){
+        long b = this.bottom - 1;
+        Object[] a = this.elements;
+        // the volatile write then volatile read orders reserving slot b before reading top
+        this.bottom = b;
+        long t = this.top;
+        if(t > b){
+            this.bottom = b + 1;
+            return null;
+        }
+        int slot = (int) b & (a.length - 1);
+        T ret = (T) a[slot];
+        if(t == b){
+            // last element, race thieves for it
+            if(!TOP.compareAndSet(this, t, t + 1)){
+                ret = null;
+            }
+            this.bottom = b + 1;
+        }else{
+            // no thief can reach slot b while top is below it
+            a[slot] = null;
+        }
+        return ret;
+    }
+
+    /**
+     * get and remove the element at the top, any thread
+     *
+     * @return oldest element, or null if deque is empty or another thread took it first
+     */
+    @SuppressWarnings("unchecked")
+    public T steal(){
+        long t = this.top;
+        long b = this.bottom;
+        if(t >= b){
+            return null;
+        }
+        Object[] a = this.elements;
+        T ret = (T) a[(int) t & (a.length - 1)];
+        if(!TOP.compareAndSet(this, t, t + 1)){
+            return null;
+        }
+        return ret;
+    }
+
+    /**
+     * helper method to double the array, owner only
+     *
+     * @param a current array
+     * @param t top index
+     * @param b bottom index
+     * @return grown array
+     */
+    private Object[] grow(Object[] a, long t, long b){
+        if(a.length == 1 << 30){
+            throw new IllegalStateException("deque is too large!");
+        }
+        Object[] grown = new Object[a.length << 1];
+        for(long i = t; i < b; i++){
+            grown[(int) i & (grown.length - 1)] = a[(int) i & (a.length - 1)];
+        }
+        this.elements = grown;
+        return grown;
+    }
+}
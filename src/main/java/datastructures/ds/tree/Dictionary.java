@@ -1,6 +1,6 @@
 package datastructures.ds.tree;
 
-import datastructures.ds.DoublyEndedQueue;
+import datastructures.ds.ArrayDoublyEndedQueue;
 
 import java.util.Iterator;
 import java.util.List;
@@ -189,7 +189,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
      */
     private static class InOrderIterator<K extends Comparable<K>, V> implements Iterator<Pair<K, V>>{
 
-        private final DoublyEndedQueue<TreeNode<K, V>> workList;
+        private final ArrayDoublyEndedQueue<TreeNode<K, V>> workList;
         private final boolean reverse;
 
         /**
@@ -200,7 +200,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
          */
         InOrderIterator(TreeNode<K, V> root, boolean reverse){
             this.reverse = reverse;
-            this.workList = new DoublyEndedQueue<>();
+            this.workList = new ArrayDoublyEndedQueue<>();
             if(root != null){
                 this.addChildren(root);
             }
@@ -280,7 +280,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
      */
     private static class LevelOrderIterator<K extends Comparable<K>, V> implements Iterator<Pair<K, V>>{
 
-        private final DoublyEndedQueue<TreeNode<K, V>> workList;
+        private final ArrayDoublyEndedQueue<TreeNode<K, V>> workList;
 
         /**
          * constructor to create a breadth first iterator
@@ -288,7 +288,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
          * @param root the root of the tree
          */
         LevelOrderIterator(TreeNode<K, V> root){
-            this.workList = new DoublyEndedQueue<>();
+            this.workList = new ArrayDoublyEndedQueue<>();
             if(root != null){
                 this.workList.insertFirst(root);
             }
@@ -342,7 +342,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
      */
     private static class PreOrderIterator<K extends Comparable<K>, V> implements Iterator<Pair<K, V>>{
 
-        private final DoublyEndedQueue<TreeNode<K, V>> workList;
+        private final ArrayDoublyEndedQueue<TreeNode<K, V>> workList;
 
         /**
          * constructor to create a pre order iterator
@@ -350,7 +350,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
          * @param root the root of the tree
          */
         PreOrderIterator(TreeNode<K, V> root){
-            this.workList = new DoublyEndedQueue<>();
+            this.workList = new ArrayDoublyEndedQueue<>();
             if(root != null){
                 this.workList.insertFirst(root);
             }
@@ -404,7 +404,7 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
      */
     private static class PostOrderIterator<K extends Comparable<K>, V> implements Iterator<Pair<K, V>>{
 
-        private final DoublyEndedQueue<TreeNode<K, V>> workList;
+        private final ArrayDoublyEndedQueue<TreeNode<K, V>> workList;
 
         /**
          * constructor to create a post order iterator
@@ -412,8 +412,8 @@ public class Dictionary<K extends Comparable<K>, V> implements Iterable<Pair<K,
          * @param root the root of the tree
          */
         PostOrderIterator(TreeNode<K, V> root){
-            this.workList = new DoublyEndedQueue<>();
-            DoublyEndedQueue<TreeNode<K, V>> s = new DoublyEndedQueue<>();
+            this.workList = new ArrayDoublyEndedQueue<>();
+            ArrayDoublyEndedQueue<TreeNode<K, V>> s = new ArrayDoublyEndedQueue<>();
             if(root != null){
                 s.insertFirst(root);
             }
@@ -26,5 +26,43 @@ public class Utils{
         arr.set(a, arr.get(b));
         arr.set(b, temp);
     }
-}
 
+    /**
+     * swap two elements in given int array
+     *
+     * @param arr given array
+     * @param a   index of element a
+     * @param b   index of element b
+     */
+    public static void swap(int[] arr, int a, int b){
+        int temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+
+    /**
+     * swap two elements in given long array
+     *
+     * @param arr given array
+     * @param a   index of element a
+     * @param b   index of element b
+     */
+    public static void swap(long[] arr, int a, int b){
+        long temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+
+    /**
+     * swap two elements in given double array
+     *
+     * @param arr given array
+     * @param a   index of element a
+     * @param b   index of element b
+     */
+    public static void swap(double[] arr, int a, int b){
+        double temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+}
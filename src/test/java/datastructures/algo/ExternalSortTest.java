@@ -0,0 +1,125 @@
+package datastructures.algo;
+
+import datastructures.util.StopWatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExternalSortTest{
+
+    private Path dir;
+
+    @BeforeEach
+    public void setUp() throws IOException{
+        this.dir = Files.createTempDirectory("external-sort-test");
+        this.dir.toFile().deleteOnExit();
+    }
+
+    private static long[] randomLongs(int n){
+        Random rand = new Random(12345);
+        long[] arr = new long[n];
+        for(int i = 0; i < n; i++){
+            arr[i] = i % 4 == 0 ? rand.nextInt(10) : rand.nextLong();
+        }
+        return arr;
+    }
+
+    private static void write(Path path, long[] arr) throws IOException{
+        ByteBuffer buffer = ByteBuffer.allocate(arr.length * Long.BYTES);
+        for(long v : arr){
+            buffer.putLong(v);
+        }
+        Files.write(path, buffer.array());
+    }
+
+    private static long[] read(Path path) throws IOException{
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        long[] arr = new long[buffer.remaining() / Long.BYTES];
+        for(int i = 0; i < arr.length; i++){
+            arr[i] = buffer.getLong();
+        }
+        return arr;
+    }
+
+    private long countFiles() throws IOException{
+        try(Stream<Path> files = Files.list(this.dir)){
+            return files.count();
+        }
+    }
+
+    private void verify(ExternalSort sorter, long[] arr) throws IOException{
+        Path input = this.dir.resolve("input.bin");
+        Path output = this.dir.resolve("output.bin");
+        write(input, arr);
+        sorter.sort(input, output);
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(output));
+        assertEquals(2, this.countFiles());  // every run has been cleaned up
+        Files.delete(input);
+        Files.delete(output);
+    }
+
+    @Test
+    public void testConstructor(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ExternalSort(0, 2, 8);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ExternalSort(1, 1, 8);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ExternalSort(1, 2, 12);
+        });
+    }
+
+    @Test
+    public void testSort() throws IOException{
+        ExternalSort sorter = new ExternalSort(100, 4, 64, this.dir);
+        this.verify(sorter, new long[0]);
+        this.verify(sorter, new long[]{42});
+        this.verify(sorter, randomLongs(100));  // single run
+        this.verify(sorter, randomLongs(350));  // single merge pass
+        this.verify(sorter, randomLongs(10007));  // several merge passes with a partial last run
+        this.verify(new ExternalSort(7, 2, 8, this.dir), randomLongs(1000));
+    }
+
+    @Test
+    public void testInvalidInput() throws IOException{
+        Path input = this.dir.resolve("input.bin");
+        Files.write(input, new byte[12]);
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ExternalSort(100, 4, 64, this.dir).sort(input, this.dir.resolve("output.bin"));
+        });
+        Files.delete(input);
+    }
+
+    @Test
+    public void testEfficiency() throws IOException{
+        long[] arr = randomLongs(2000000);
+        Path input = this.dir.resolve("input.bin");
+        Path output = this.dir.resolve("output.bin");
+        write(input, arr);
+        assertTimeout(Duration.ofMillis(10000), () -> {
+            System.out.println("[ExternalSort] test sorting 2,000,000 random longs in runs of 100,000 "
+                    + "with a fan-in of 8");
+            StopWatch.shared.begin();
+            new ExternalSort(100000, 8, 1 << 16, this.dir).sort(input, output);
+            StopWatch.shared.end("Runtime:", 2.0);
+        });
+        Arrays.sort(arr);
+        assertArrayEquals(arr, read(output));
+        Files.delete(input);
+        Files.delete(output);
+    }
+}
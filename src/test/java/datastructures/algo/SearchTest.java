@@ -8,7 +8,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -152,4 +157,45 @@ public class SearchTest{
         Search.bfs(this.dsg, res::add);
         assertEquals(res, new ArrayList<>(List.of("A", "B", "D", "E", "F", "C", "H", "G", "I")));
     }
+
+    @Test
+    public void testParallelDFS(){
+        List<Graph<String>> graphs = List.of(this.mtdg, this.mtsg, this.uddg, this.udsg, this.ddg, this.dsg);
+        for(int workers : new int[]{1, 2, 4}){
+            for(Graph<String> graph : graphs){
+                ConcurrentLinkedQueue<String> res = new ConcurrentLinkedQueue<>();
+                Search.parallelDfs(graph, res::add, workers);
+                assertEquals(res.size(), graph.V());
+                assertEquals(new HashSet<>(res), new HashSet<>(graph.getVertices()));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            Search.parallelDfs(this.udsg, v -> {}, 0);
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            Search.parallelDfs(this.udsg, v -> {
+                throw new IllegalStateException("stop");
+            }, 2);
+        });
+    }
+
+    @Test
+    public void testParallelDFSLargeGraph(){
+        int n = 100000;
+        Random random = new Random(7);
+        List<Integer> vertices = new ArrayList<>();
+        for(int i = 0; i < n; i++){
+            vertices.add(i);
+        }
+        Graph<Integer> graph = new SparseGraph<>(vertices, true);
+        for(int i = 0; i < 3 * n; i++){
+            graph.addEdge(random.nextInt(n), random.nextInt(n));
+        }
+        Map<Integer, Integer> counts = new ConcurrentHashMap<>();
+        Search.parallelDfs(graph, v -> counts.merge(v, 1, Integer::sum), 4);
+        assertEquals(counts.size(), n);
+        for(int count : counts.values()){
+            assertEquals(count, 1);
+        }
+    }
 }
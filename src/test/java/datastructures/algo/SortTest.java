@@ -1,8 +1,10 @@
 package datastructures.algo;
 
+import datastructures.ds.tree.Pair;
 import datastructures.util.Generator;
 import datastructures.util.StopWatch;
 
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +13,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -123,6 +130,101 @@ public class SortTest{
         this.testAllExamplesAreSorted();
     }
 
+    @Test
+    public void testMergeSortWithScratch(){
+        ArrayList<Integer> scratch = new ArrayList<>();
+        Sort.mergeSort(this.arrEmpty, scratch);
+        Sort.mergeSort(this.arrOneElement, scratch);
+        Sort.mergeSort(this.arrIncreasing, scratch);
+        Sort.mergeSort(this.arrNonIncreasing, scratch);
+        Sort.mergeSort(this.arrDecreasing, scratch);
+        Sort.mergeSortThreadLocal(this.arrNonDecreasing);
+        Sort.mergeSortThreadLocal(this.arrRepeating);
+        Sort.mergeSortThreadLocal(this.arrUnorderedNoDuplicate);
+        Sort.mergeSortThreadLocal(this.arrUnorderedWithDuplicate);
+        this.testAllExamplesAreSorted();
+
+        ArrayList<Integer> random = Generator.randomIntegerArray(100000);
+        Sort.mergeSort(random, scratch);
+        assertTrue(Sort.isSorted(random));
+
+        int[] arr = Generator.randomIntegerArray(100000).stream().mapToInt(Integer::intValue).toArray();
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sort.mergeSort(arr, new int[200000]);
+        assertArrayEquals(expected, arr);
+        arr = Generator.nearlyOrderedArray(100000).stream().mapToInt(Integer::intValue).toArray();
+        Sort.mergeSortThreadLocal(arr);
+        assertTrue(Sort.isSorted(arr));
+        assertThrows(IllegalArgumentException.class, () -> {
+            Sort.mergeSort(new int[2], new int[1]);
+        });
+    }
+
+    @Test
+    public void testMergeSortWithScratchDoesNotAllocate(){
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int[] source = Generator.randomIntegerArray(10000).stream().mapToInt(Integer::intValue).toArray();
+        int[] arr = new int[source.length];
+        ArrayList<Integer> boxedSource = Generator.randomIntegerArray(10000);
+        ArrayList<Integer> boxed = new ArrayList<>(boxedSource);
+        ArrayList<Integer> scratch = new ArrayList<>(boxedSource.size());
+        for(int round = 0; round < 2; round++){  // the first round warms up the thread-local buffer and the JIT
+            long before = bean.getThreadAllocatedBytes(thread);
+            for(int i = 0; i < 100; i++){
+                System.arraycopy(source, 0, arr, 0, source.length);
+                Sort.mergeSortThreadLocal(arr);
+                Collections.copy(boxed, boxedSource);
+                Sort.mergeSort(boxed, scratch);
+            }
+            long allocated = bean.getThreadAllocatedBytes(thread) - before;
+            if(round == 1){
+                assertTrue(allocated < 10000, "allocated " + allocated + " bytes in steady state");
+            }
+        }
+        assertTrue(Sort.isSorted(arr));
+        assertTrue(Sort.isSorted(boxed));
+    }
+
+    @Test
+    public void testAdaptiveMergeSort(){
+        Sort.adaptiveMergeSort(this.arrEmpty);
+        Sort.adaptiveMergeSort(this.arrOneElement);
+        Sort.adaptiveMergeSort(this.arrIncreasing);
+        Sort.adaptiveMergeSort(this.arrNonIncreasing);
+        Sort.adaptiveMergeSort(this.arrDecreasing);
+        Sort.adaptiveMergeSort(this.arrNonDecreasing);
+        Sort.adaptiveMergeSort(this.arrRepeating);
+        Sort.adaptiveMergeSort(this.arrUnorderedNoDuplicate);
+        Sort.adaptiveMergeSort(this.arrUnorderedWithDuplicate);
+        this.testAllExamplesAreSorted();
+
+        ArrayList<Integer> nearlyOrdered = Generator.nearlyOrderedArray(100000);
+        Sort.adaptiveMergeSort(nearlyOrdered);
+        assertEquals(Generator.orderedArray(100000), nearlyOrdered);
+        ArrayList<Integer> reversed = Generator.orderedArray(100000);
+        Collections.reverse(reversed);
+        Sort.adaptiveMergeSort(reversed);
+        assertEquals(Generator.orderedArray(100000), reversed);
+        ArrayList<Integer> random = Generator.randomIntegerArray(100000);
+        Sort.adaptiveMergeSort(random);
+        assertTrue(Sort.isSorted(random));
+
+        // equal keys keep their original order
+        ArrayList<Pair<Integer, Integer>> pairs = new ArrayList<>();
+        for(int i = 0; i < 10000; i++){
+            pairs.add(new Pair<>((i * 7919) % 10, i));
+        }
+        Sort.adaptiveMergeSort(pairs);
+        for(int i = 1; i < pairs.size(); i++){
+            Pair<Integer, Integer> prev = pairs.get(i - 1);
+            Pair<Integer, Integer> cur = pairs.get(i);
+            assertTrue(prev.getFirst() < cur.getFirst()
+                    || prev.getFirst().equals(cur.getFirst()) && prev.getSecond() < cur.getSecond());
+        }
+    }
+
     @Test
     public void testQuickSort(){
         Sort.quickSort(this.arrEmpty);
@@ -137,6 +239,92 @@ public class SortTest{
         this.testAllExamplesAreSorted();
     }
 
+    @Test
+    public void testQuickSort3Ways(){
+        Sort.quickSort3Ways(this.arrEmpty);
+        Sort.quickSort3Ways(this.arrOneElement);
+        Sort.quickSort3Ways(this.arrIncreasing);
+        Sort.quickSort3Ways(this.arrNonIncreasing);
+        Sort.quickSort3Ways(this.arrDecreasing);
+        Sort.quickSort3Ways(this.arrNonDecreasing);
+        Sort.quickSort3Ways(this.arrRepeating);
+        Sort.quickSort3Ways(this.arrUnorderedNoDuplicate);
+        Sort.quickSort3Ways(this.arrUnorderedWithDuplicate);
+        this.testAllExamplesAreSorted();
+
+        ArrayList<Integer> fewUnique = Generator.randomIntegerArray(100000, 0, 10);
+        Sort.quickSort3Ways(fewUnique);
+        assertTrue(Sort.isSorted(fewUnique));
+        ArrayList<Integer> allEqual = new ArrayList<>(Collections.nCopies(100000, 7));
+        Sort.quickSort3Ways(allEqual);
+        assertTrue(Sort.isSorted(allEqual));
+        ArrayList<Integer> random = Generator.randomIntegerArray(100000);
+        Sort.quickSort3Ways(random);
+        assertTrue(Sort.isSorted(random));
+    }
+
+    @Test
+    public void testQuickSortDualPivot(){
+        Sort.quickSortDualPivot(this.arrEmpty);
+        Sort.quickSortDualPivot(this.arrOneElement);
+        Sort.quickSortDualPivot(this.arrIncreasing);
+        Sort.quickSortDualPivot(this.arrNonIncreasing);
+        Sort.quickSortDualPivot(this.arrDecreasing);
+        Sort.quickSortDualPivot(this.arrNonDecreasing);
+        Sort.quickSortDualPivot(this.arrRepeating);
+        Sort.quickSortDualPivot(this.arrUnorderedNoDuplicate);
+        Sort.quickSortDualPivot(this.arrUnorderedWithDuplicate);
+        this.testAllExamplesAreSorted();
+
+        ArrayList<Integer> fewUnique = Generator.randomIntegerArray(100000, 0, 10);
+        Sort.quickSortDualPivot(fewUnique);
+        assertTrue(Sort.isSorted(fewUnique));
+        ArrayList<Integer> allEqual = new ArrayList<>(Collections.nCopies(100000, 7));
+        Sort.quickSortDualPivot(allEqual);
+        assertTrue(Sort.isSorted(allEqual));
+        ArrayList<Integer> random = Generator.randomIntegerArray(100000);
+        Sort.quickSortDualPivot(random);
+        assertTrue(Sort.isSorted(random));
+    }
+
+    @Test
+    public void testRadixSort(){
+        Random rand = new Random(12345);
+        for(int n : new int[]{0, 1, 2, 100, 1 << 20}){
+            int[] ints = new int[n];
+            long[] longs = new long[n];
+            for(int i = 0; i < n; i++){
+                ints[i] = i % 3 == 0 ? rand.nextInt(100) - 50 : rand.nextInt();
+                longs[i] = i % 3 == 0 ? rand.nextInt(100) - 50 : rand.nextLong();
+            }
+            int[] expectedInts = ints.clone();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+            Sort.radixSort(ints);
+            Sort.radixSort(longs);
+            assertArrayEquals(expectedInts, ints);
+            assertArrayEquals(expectedLongs, longs);
+        }
+        int[] extremes = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1};
+        Sort.radixSort(extremes);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}, extremes);
+
+        ArrayList<String> words = new ArrayList<>(List.of("she", "sells", "seashells", "by", "the", "sea", "shore",
+                "the", "shells", "she", "sells", "are", "surely", "seashells", "", "s", "\u00e9t\u00e9", "\u4e2d\u6587"));
+        for(int i = 0; i < 10000; i++){
+            StringBuilder builder = new StringBuilder("prefix");
+            for(int j = rand.nextInt(8); j > 0; j--){
+                builder.append((char) ('a' + rand.nextInt(4)));
+            }
+            words.add(builder.toString());
+        }
+        ArrayList<String> expectedWords = new ArrayList<>(words);
+        Collections.sort(expectedWords);
+        Sort.radixSort(words);
+        assertEquals(expectedWords, words);
+    }
+
     @Test
     public void testHeapSort(){
         Sort.heapSort(this.arrEmpty);
@@ -151,6 +339,92 @@ public class SortTest{
         this.testAllExamplesAreSorted();
     }
 
+    @Test
+    public void testParallelMergeSort(){
+        Sort.parallelMergeSort(this.arrEmpty);
+        Sort.parallelMergeSort(this.arrOneElement);
+        Sort.parallelMergeSort(this.arrIncreasing);
+        Sort.parallelMergeSort(this.arrNonIncreasing);
+        Sort.parallelMergeSort(this.arrDecreasing);
+        Sort.parallelMergeSort(this.arrNonDecreasing);
+        Sort.parallelMergeSort(this.arrRepeating);
+        Sort.parallelMergeSort(this.arrUnorderedNoDuplicate);
+        Sort.parallelMergeSort(this.arrUnorderedWithDuplicate);
+        this.testAllExamplesAreSorted();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ArrayList<Integer> arr = Generator.randomIntegerArray(200000, 0, 1000);
+        ArrayList<Integer> expected = new ArrayList<>(arr);
+        Collections.sort(expected);
+        Sort.parallelMergeSort(arr, pool);
+        assertEquals(expected, arr);
+
+        int[] primitive = Generator.randomIntegerArray(200000).stream().mapToInt(Integer::intValue).toArray();
+        int[] primitiveExpected = primitive.clone();
+        Arrays.sort(primitiveExpected);
+        Sort.parallelMergeSort(primitive, pool);
+        assertArrayEquals(primitiveExpected, primitive);
+        Sort.parallelMergeSort(new int[0]);
+        pool.shutdown();
+    }
+
+    private List<ArrayList<Integer>> allExamples(){
+        return List.of(this.arrEmpty, this.arrOneElement, this.arrIncreasing, this.arrNonIncreasing,
+                this.arrDecreasing, this.arrNonDecreasing, this.arrRepeating, this.arrUnorderedNoDuplicate,
+                this.arrUnorderedWithDuplicate, Generator.randomIntegerArray(1000, -500, 500));
+    }
+
+    @Test
+    public void testPrimitiveIntSort(){
+        List<Consumer<int[]>> sorts = List.of(Sort::selectionSort, Sort::insertionSort, Sort::mergeSort,
+                Sort::mergeSortBottomUp, Sort::quickSort, Sort::heapSort);
+        for(Consumer<int[]> sort : sorts){
+            for(ArrayList<Integer> example : this.allExamples()){
+                int[] arr = example.stream().mapToInt(Integer::intValue).toArray();
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+                sort.accept(arr);
+                assertArrayEquals(expected, arr);
+                assertTrue(Sort.isSorted(arr));
+            }
+        }
+        assertFalse(Sort.isSorted(new int[]{2, 1}));
+    }
+
+    @Test
+    public void testPrimitiveLongSort(){
+        List<Consumer<long[]>> sorts = List.of(Sort::selectionSort, Sort::insertionSort, Sort::mergeSort,
+                Sort::mergeSortBottomUp, Sort::quickSort, Sort::heapSort);
+        for(Consumer<long[]> sort : sorts){
+            for(ArrayList<Integer> example : this.allExamples()){
+                long[] arr = example.stream().mapToLong(i -> (long) i * Integer.MAX_VALUE).toArray();
+                long[] expected = arr.clone();
+                Arrays.sort(expected);
+                sort.accept(arr);
+                assertArrayEquals(expected, arr);
+                assertTrue(Sort.isSorted(arr));
+            }
+        }
+        assertFalse(Sort.isSorted(new long[]{2, 1}));
+    }
+
+    @Test
+    public void testPrimitiveDoubleSort(){
+        List<Consumer<double[]>> sorts = List.of(Sort::selectionSort, Sort::insertionSort, Sort::mergeSort,
+                Sort::mergeSortBottomUp, Sort::quickSort, Sort::heapSort);
+        for(Consumer<double[]> sort : sorts){
+            for(ArrayList<Integer> example : this.allExamples()){
+                double[] arr = example.stream().mapToDouble(i -> i / 3.0).toArray();
+                double[] expected = arr.clone();
+                Arrays.sort(expected);
+                sort.accept(arr);
+                assertArrayEquals(expected, arr);
+                assertTrue(Sort.isSorted(arr));
+            }
+        }
+        assertFalse(Sort.isSorted(new double[]{2.0, 1.0}));
+    }
+
     @Test
     public void testEfficiency(){
         ArrayList<Integer> arr1 = Generator.randomIntegerArray(10000);
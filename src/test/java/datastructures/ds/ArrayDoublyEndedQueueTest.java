@@ -0,0 +1,246 @@
+package datastructures.ds;
+
+import datastructures.util.StopWatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * represents a testing class for array backed DEQ
+ */
+public class ArrayDoublyEndedQueueTest{
+
+    private ArrayDoublyEndedQueue<Integer> mtDeq;
+    private ArrayDoublyEndedQueue<Integer> deq1;
+
+    /**
+     * setup method before each test
+     */
+    @BeforeEach
+    public void setUp(){
+        this.mtDeq = new ArrayDoublyEndedQueue<>();
+        this.deq1 = new ArrayDoublyEndedQueue<>(List.of(1, 2, 3));
+    }
+
+    /**
+     * verify the given DEQ holds the given elements in order, and that unused slots are cleared
+     *
+     * @param deq      DEQ to test on
+     * @param elements expected order of elements
+     * @param <T>      type of DEQ and elements
+     */
+    private <T> void verify(ArrayDoublyEndedQueue<T> deq, List<T> elements){
+        assertEquals(deq.size(), elements.size());
+        int capacity = deq.elements.length;
+        assertEquals(Integer.bitCount(capacity), 1);
+        for(int i = 0; i < capacity; i++){
+            Object element = deq.elements[(deq.head + i) & (capacity - 1)];
+            if(i < elements.size()){
+                assertEquals(element, elements.get(i));
+            }else{
+                assertNull(element);
+            }
+        }
+    }
+
+    /**
+     * testing constructor
+     */
+    @Test
+    public void testConstructor(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ArrayDoublyEndedQueue<Integer>(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ArrayDoublyEndedQueue<Integer>((1 << 30) + 1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ArrayDoublyEndedQueue<Integer>(Integer.MAX_VALUE);
+        });
+        assertEquals(new ArrayDoublyEndedQueue<Integer>(0).elements.length, 1);
+        assertEquals(new ArrayDoublyEndedQueue<Integer>(16).elements.length, 16);
+        assertEquals(new ArrayDoublyEndedQueue<Integer>(17).elements.length, 32);
+        this.verify(this.mtDeq, List.of());
+        this.verify(this.deq1, List.of(1, 2, 3));
+        this.verify(new ArrayDoublyEndedQueue<>(List.of(1)), List.of(1));
+    }
+
+    /**
+     * testing forward and reverse iterator
+     */
+    @Test
+    public void testIterator(){
+        Iterator<Integer> iter = this.mtDeq.iterator();
+        assertFalse(iter.hasNext());
+        iter = this.deq1.iterator();
+        for(int i = 0; i < 3; i++){
+            assertTrue(iter.hasNext());
+            assertEquals(iter.next(), i + 1);
+        }
+        assertFalse(iter.hasNext());
+        iter = this.deq1.reverseIterator();
+        for(int i = 3; i > 0; i--){
+            assertTrue(iter.hasNext());
+            assertEquals(iter.next(), i);
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    /**
+     * testing insert, including wrapping around and growing
+     */
+    @Test
+    public void testInsert(){
+        this.mtDeq.insertFirst(1);
+        this.deq1.insertFirst(0);
+        this.verify(this.mtDeq, List.of(1));
+        this.verify(this.deq1, List.of(0, 1, 2, 3));
+        this.deq1.insertLast(4);
+        this.verify(this.deq1, List.of(0, 1, 2, 3, 4));
+
+        ArrayDoublyEndedQueue<Integer> deq = new ArrayDoublyEndedQueue<>(4);
+        deq.insertLast(2);
+        deq.insertFirst(1);  // wraps to the end of the array
+        deq.insertLast(3);
+        deq.insertFirst(0);
+        this.verify(deq, List.of(0, 1, 2, 3));
+        assertEquals(deq.elements.length, 4);
+        deq.insertLast(4);  // grows
+        this.verify(deq, List.of(0, 1, 2, 3, 4));
+        assertEquals(deq.elements.length, 8);
+        deq.insertFirst(-1);
+        this.verify(deq, List.of(-1, 0, 1, 2, 3, 4));
+    }
+
+    /**
+     * testing peek
+     */
+    @Test
+    public void testPeek(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.peekFirst();
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.peekLast();
+        });
+        assertEquals(this.deq1.peekFirst(), 1);
+        assertEquals(this.deq1.peekLast(), 3);
+        this.deq1.removeFirst();
+        this.deq1.removeLast();
+        assertEquals(this.deq1.peekFirst(), 2);
+        assertEquals(this.deq1.peekLast(), 2);
+    }
+
+    /**
+     * testing contains
+     */
+    @Test
+    public void testContains(){
+        assertFalse(this.mtDeq.contains(1));
+        assertTrue(this.deq1.contains(1));
+        this.deq1.remove(1);
+        assertFalse(this.deq1.contains(1));
+    }
+
+    /**
+     * testing remove
+     */
+    @Test
+    public void testRemove(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.removeFirst();
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.removeLast();
+        });
+        assertEquals(this.deq1.removeFirst(), 1);
+        this.verify(this.deq1, List.of(2, 3));
+        assertEquals(this.deq1.removeLast(), 3);
+        this.verify(this.deq1, List.of(2));
+        assertEquals(this.deq1.removeLast(), 2);
+        assertTrue(this.deq1.isEmpty());
+        this.setUp();
+        assertFalse(this.mtDeq.remove(1));
+        assertTrue(this.deq1.remove(2));
+        this.verify(this.deq1, List.of(1, 3));
+        ArrayDoublyEndedQueue<Integer> deq = new ArrayDoublyEndedQueue<>(List.of(1, 2, 3, 2, 5, 6));
+        deq.insertFirst(0);
+        assertTrue(deq.remove(2));
+        this.verify(deq, List.of(0, 1, 3, 2, 5, 6));
+        assertTrue(deq.remove(5));
+        this.verify(deq, List.of(0, 1, 3, 2, 6));
+        assertTrue(deq.remove(0));
+        this.verify(deq, List.of(1, 3, 2, 6));
+    }
+
+    /**
+     * testing update
+     */
+    @Test
+    public void testUpdate(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.updateFirst(1);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.updateLast(1);
+        });
+        this.deq1.updateFirst(0);
+        this.deq1.updateLast(0);
+        this.verify(this.deq1, List.of(0, 2, 0));
+        assertTrue(this.deq1.update(0, 1));
+        this.verify(this.deq1, List.of(1, 2, 0));
+        assertFalse(this.deq1.update(4, 4));
+    }
+
+    /**
+     * testing clear and reverse
+     */
+    @Test
+    public void testClearAndReverse(){
+        this.deq1.insertFirst(0);
+        this.deq1.reverse();
+        this.verify(this.deq1, List.of(3, 2, 1, 0));
+        this.deq1.clear();
+        this.verify(this.deq1, List.of());
+        this.mtDeq.reverse();
+        this.verify(this.mtDeq, List.of());
+    }
+
+    /**
+     * testing toString
+     */
+    @Test
+    public void testToString(){
+        assertEquals(this.mtDeq.toString(), "");
+        assertEquals(this.deq1.toString(), "1, 2, 3");
+    }
+
+    /**
+     * testing efficiency
+     */
+    @Test
+    public void testEfficiency(){
+        assertTimeout(Duration.ofMillis(10000), () -> {
+            System.out.println("[ArrayDoublyEndedQueue] test inserting 1,000,000 elements at both ends "
+                    + "and removing all of them");
+            ArrayDoublyEndedQueue<Integer> deq = new ArrayDoublyEndedQueue<>();
+            StopWatch.shared.begin();
+            for(int i = 0; i < 500000; i++){
+                deq.insertFirst(i);
+                deq.insertLast(i);
+            }
+            while(!deq.isEmpty()){
+                deq.removeFirst();
+                if(!deq.isEmpty()){
+                    deq.removeLast();
+                }
+            }
+            StopWatch.shared.end("Runtime:", 0.1);
+        });
+    }
+}
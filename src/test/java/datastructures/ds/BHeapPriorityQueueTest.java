@@ -0,0 +1,78 @@
+package datastructures.ds;
+
+import datastructures.algo.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BHeapPriorityQueueTest{
+
+    @Test
+    public void testLayout(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new BHeapPriorityQueue<Integer>(false, 4);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new BHeapPriorityQueue<Integer>(false, 24);
+        });
+        for(int pageSize : new int[]{8, 16, 1024}){
+            BHeapPriorityQueue<Integer> pq = new BHeapPriorityQueue<>(false, pageSize);
+            int n = 100000;
+            int[] parents = new int[n + 1];
+            for(int i = 1; i <= n; i++){
+                int first = pq.firstChild(i);
+                int last = pq.lastChild(i);
+                assertTrue(first > i && last >= first && last <= first + 1);
+                for(int child = first; child <= last && child <= n; child++){
+                    assertEquals(pq.parent(child), i);
+                    parents[child]++;
+                }
+            }
+            for(int i = 2; i <= n; i++){
+                assertEquals(parents[i], 1);
+            }
+        }
+        BHeapPriorityQueue<Integer> pq = new BHeapPriorityQueue<>(false, 8);
+        // a node in the bottom row of the first page has its children at the start of a new page
+        assertEquals(pq.firstChild(4), 8);
+        assertEquals(pq.lastChild(4), 9);
+        assertEquals(pq.firstChild(8), 10);
+        assertEquals(pq.lastChild(8), 10);
+        assertEquals(pq.parent(10), 8);
+        assertEquals(pq.parent(9), 4);
+    }
+
+    @Test
+    public void testSort(){
+        Random rand = new Random(12345);
+        for(int pageSize : new int[]{8, 64}){
+            for(boolean isMaxHeap : new boolean[]{false, true}){
+                ArrayList<Integer> arr = new ArrayList<>();
+                for(int i = 0; i < 20000; i++){
+                    arr.add(rand.nextInt(5000));
+                }
+                BHeapPriorityQueue<Integer> pq = new BHeapPriorityQueue<>(isMaxHeap, pageSize,
+                        new ArrayList<>(arr.subList(0, 10000)));
+                for(int i = 10000; i < 20000; i++){
+                    pq.insert(arr.get(i));
+                }
+                ArrayList<Integer> verify = new ArrayList<>();
+                while(!pq.isEmpty()){
+                    verify.add(pq.pop());
+                }
+                if(isMaxHeap){
+                    Collections.reverse(verify);
+                }
+                assertEquals(verify.size(), 20000);
+                assertTrue(Sort.isSorted(verify));
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * represents a testing class for bounded blocking DEQ
+ */
+public class BlockingDoublyEndedQueueTest{
+
+    private BlockingDoublyEndedQueue<Integer> deq;
+
+    /**
+     * setup method before each test
+     */
+    @BeforeEach
+    public void setUp(){
+        this.deq = new BlockingDoublyEndedQueue<>(3);
+    }
+
+    /**
+     * testing non-blocking operations respect the capacity and both ends
+     */
+    @Test
+    public void testOfferPoll(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new BlockingDoublyEndedQueue<Integer>(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.deq.offerLast(null);
+        });
+        assertTrue(this.deq.isEmpty());
+        assertNull(this.deq.pollFirst());
+        assertNull(this.deq.pollLast());
+        assertTrue(this.deq.offerLast(2));
+        assertTrue(this.deq.offerFirst(1));
+        assertTrue(this.deq.offerLast(3));
+        assertFalse(this.deq.offerLast(4));
+        assertFalse(this.deq.offerFirst(0));
+        assertEquals(this.deq.size(), 3);
+        assertEquals(this.deq.remainingCapacity(), 0);
+        assertEquals(this.deq.toString(), "1, 2, 3");
+        assertEquals(this.deq.pollLast(), 3);
+        assertEquals(this.deq.pollFirst(), 1);
+        assertEquals(this.deq.remainingCapacity(), 2);
+        this.deq.clear();
+        assertTrue(this.deq.isEmpty());
+        assertEquals(this.deq.capacity(), 3);
+    }
+
+    /**
+     * testing a capacity of Integer.MAX_VALUE does not preallocate and is lowered to what the backing DEQ holds
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testLargeCapacity() throws InterruptedException{
+        BlockingDoublyEndedQueue<Integer> unbounded = new BlockingDoublyEndedQueue<>(Integer.MAX_VALUE);
+        assertEquals(unbounded.capacity(), 1 << 30);
+        for(int i = 0; i < 1000; i++){
+            unbounded.put(i);
+        }
+        assertEquals(unbounded.size(), 1000);
+        assertEquals(unbounded.remainingCapacity(), (1 << 30) - 1000);
+        for(int i = 0; i < 1000; i++){
+            assertEquals(unbounded.take(), i);
+        }
+        assertTrue(unbounded.offerFirst(1));
+    }
+
+    /**
+     * testing timed offer and poll give up after the timeout
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testTimedOfferPoll() throws InterruptedException{
+        assertNull(this.deq.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(this.deq.pollLast(0, TimeUnit.MILLISECONDS));
+        for(int i = 0; i < 3; i++){
+            assertTrue(this.deq.offer(i, 10, TimeUnit.MILLISECONDS));
+        }
+        long start = System.nanoTime();
+        assertFalse(this.deq.offer(3, 20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertFalse(this.deq.offerFirst(3, 0, TimeUnit.MILLISECONDS));
+        assertEquals(this.deq.poll(10, TimeUnit.MILLISECONDS), 0);
+        assertEquals(this.deq.pollLast(10, TimeUnit.MILLISECONDS), 2);
+    }
+
+    /**
+     * testing put blocks while full until a take makes space, and take blocks while empty
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testPutTakeBlock() throws InterruptedException{
+        for(int i = 0; i < 3; i++){
+            this.deq.put(i);
+        }
+        Thread producer = new Thread(() -> {
+            try{
+                this.deq.putFirst(-1);
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        producer.join(50);
+        assertTrue(producer.isAlive());
+        assertEquals(this.deq.takeLast(), 2);
+        producer.join();
+        assertEquals(this.deq.toString(), "-1, 0, 1");
+
+        this.deq.clear();
+        AtomicReference<Integer> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try{
+                taken.set(this.deq.take());
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        consumer.join(50);
+        assertTrue(consumer.isAlive());
+        this.deq.putLast(42);
+        consumer.join();
+        assertEquals(taken.get(), 42);
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try{
+                this.deq.takeFirst();
+            }catch(InterruptedException e){
+                thrown.set(e);
+            }
+        });
+        waiter.start();
+        waiter.interrupt();
+        waiter.join();
+        assertTrue(thrown.get() instanceof InterruptedException);
+    }
+
+    /**
+     * testing drainTo moves at most max elements from the start and wakes blocked producers
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testDrainTo() throws InterruptedException{
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(this.deq.drainTo(drained), 0);
+        assertEquals(this.deq.drainTo(drained, 2, 10, TimeUnit.MILLISECONDS), 0);
+        for(int i = 0; i < 3; i++){
+            this.deq.put(i);
+        }
+        assertEquals(this.deq.drainTo(drained, 2), 2);
+        assertEquals(drained, List.of(0, 1));
+        assertEquals(this.deq.drainTo(drained, 0), 0);
+        assertEquals(this.deq.drainTo(drained, 5, 10, TimeUnit.MILLISECONDS), 1);
+        assertEquals(drained, List.of(0, 1, 2));
+
+        for(int i = 0; i < 3; i++){
+            this.deq.put(i);
+        }
+        List<Thread> producers = new ArrayList<>();
+        for(int i = 3; i < 5; i++){
+            int element = i;
+            Thread producer = new Thread(() -> {
+                try{
+                    this.deq.put(element);
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        drained.clear();
+        assertEquals(this.deq.drainTo(drained), 3);
+        for(Thread producer : producers){
+            producer.join();
+        }
+        assertEquals(this.deq.size(), 2);
+    }
+
+    /**
+     * testing producers and batching consumers hand every element over exactly once
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testProducersConsumers() throws InterruptedException{
+        int perProducer = 50000;
+        int producers = 2;
+        int total = perProducer * producers;
+        BlockingDoublyEndedQueue<Integer> buffer = new BlockingDoublyEndedQueue<>(64);
+        AtomicIntegerArray taken = new AtomicIntegerArray(total);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for(int p = 0; p < producers; p++){
+            int id = p;
+            threads.add(new Thread(() -> {
+                try{
+                    for(int i = 0; i < perProducer; i++){
+                        buffer.put(id * perProducer + i);
+                    }
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        for(int c = 0; c < 2; c++){
+            threads.add(new Thread(() -> {
+                try{
+                    List<Integer> batch = new ArrayList<>();
+                    while(buffer.drainTo(batch, 16, 100, TimeUnit.MILLISECONDS) > 0){
+                        for(Integer e : batch){
+                            assertEquals(taken.incrementAndGet(e), 1);
+                        }
+                        batch.clear();
+                    }
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        for(Thread thread : threads){
+            thread.start();
+        }
+        for(Thread thread : threads){
+            thread.join();
+        }
+        assertNull(failure.get());
+        for(int i = 0; i < total; i++){
+            assertEquals(taken.get(i), 1);
+        }
+    }
+}
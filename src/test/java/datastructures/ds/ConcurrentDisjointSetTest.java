@@ -0,0 +1,158 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * represents a testing class for the concurrent disjoint set. the racing tests feed the same edges to the
+ * sequential DisjointSet and check both end up with the same sets
+ */
+public class ConcurrentDisjointSetTest{
+
+    private static final int THREADS = 4;
+
+    /**
+     * run the task on the given number of threads started together, rethrowing the first failure
+     *
+     * @param threads number of threads
+     * @param task    task receiving the thread index
+     */
+    private static void runConcurrently(int threads, ThreadTask task) throws InterruptedException{
+        CyclicBarrier start = new CyclicBarrier(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+        for(int i = 0; i < threads; i++){
+            int id = i;
+            Thread worker = new Thread(() -> {
+                try{
+                    start.await();
+                    task.run(id);
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for(Thread worker : workers){
+            worker.join();
+        }
+        if(failure.get() != null){
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    /**
+     * represents a task run by each thread of a stress test
+     */
+    private interface ThreadTask{
+        void run(int id) throws Exception;
+    }
+
+    @Test
+    public void testSequential(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConcurrentDisjointSet(-1);
+        });
+        ConcurrentDisjointSet ds = new ConcurrentDisjointSet(10);
+        assertEquals(ds.getSize(), 10);
+        assertEquals(ds.getNumberOfComponents(), 10);
+        assertThrows(IllegalArgumentException.class, () -> {
+            ds.find(10);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            ds.union(-1, 2);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            ds.isConnected(0, 10);
+        });
+        ds.union(1, 3);
+        ds.union(2, 3);
+        ds.union(4, 3);
+        ds.union(5, 7);
+        ds.union(6, 7);
+        ds.union(8, 6);
+        ds.union(8, 5);
+        assertEquals(ds.find(1), 4);
+        assertEquals(ds.find(5), 8);
+        assertTrue(ds.isConnected(1, 2));
+        assertTrue(ds.isConnected(8, 5));
+        assertFalse(ds.isConnected(3, 7));
+        assertFalse(ds.isConnected(0, 9));
+        assertEquals(ds.getNumberOfComponents(), 4);
+        ds.union(2, 8);
+        assertTrue(ds.isConnected(3, 7));
+        assertEquals(ds.getNumberOfComponents(), 3);
+    }
+
+    @Test
+    public void testAgainstSequential() throws InterruptedException{
+        int size = 100000;
+        int edges = 60000;
+        for(int round = 0; round < 5; round++){
+            Random rand = new Random(round);
+            int[] ps = new int[edges];
+            int[] qs = new int[edges];
+            DisjointSet expected = new DisjointSet(size);
+            for(int i = 0; i < edges; i++){
+                ps[i] = rand.nextInt(size);
+                qs[i] = rand.nextInt(size);
+                expected.union(ps[i], qs[i]);
+            }
+            ConcurrentDisjointSet ds = new ConcurrentDisjointSet(size);
+            runConcurrently(THREADS, id -> {
+                // interleave the edges so threads race on the same sets
+                for(int i = id; i < edges; i += THREADS){
+                    ds.union(ps[i], qs[i]);
+                    ds.isConnected(qs[i], ps[edges - 1 - i]);
+                }
+            });
+            assertEquals(ds.getNumberOfComponents(), expected.getNumberOfComponents());
+            // the heads must map one to one onto the heads of the sequential version
+            Map<Integer, Integer> heads = new HashMap<>();
+            Map<Integer, Integer> reverse = new HashMap<>();
+            for(int i = 0; i < size; i++){
+                int head = ds.find(i);
+                int expectedHead = expected.find(i);
+                assertEquals(heads.computeIfAbsent(head, k -> expectedHead), expectedHead);
+                assertEquals(reverse.computeIfAbsent(expectedHead, k -> head), head);
+            }
+        }
+    }
+
+    @Test
+    public void testConnectedDuringUnions() throws InterruptedException{
+        int size = 50000;
+        ConcurrentDisjointSet ds = new ConcurrentDisjointSet(size);
+        // two threads chain the nodes together while the others check connectivity never goes back
+        runConcurrently(THREADS, id -> {
+            if(id < 2){
+                for(int i = id; i + 2 < size; i += 2){
+                    ds.union(i, i + 2);
+                }
+            }else{
+                Random rand = new Random(id);
+                boolean connected = false;
+                for(int i = 0; i < 20000; i++){
+                    boolean now = ds.isConnected(id - 2, size - 4 + id);
+                    assertFalse(connected && !now);
+                    connected = now;
+                    ds.find(rand.nextInt(size));
+                }
+            }
+        });
+        assertTrue(ds.isConnected(0, size - 2));
+        assertTrue(ds.isConnected(1, size - 1));
+        assertFalse(ds.isConnected(0, 1));
+        assertEquals(ds.getNumberOfComponents(), 2);
+    }
+}
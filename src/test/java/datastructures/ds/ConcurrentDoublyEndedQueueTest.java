@@ -0,0 +1,344 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * represents a testing class for lock-free DEQ. besides the sequential behaviour shared with DoublyEndedQueue,
+ * it stresses racing threads and checks that every outcome is one a sequential order of the same calls allows
+ */
+public class ConcurrentDoublyEndedQueueTest{
+
+    private static final int THREADS = 4;
+
+    private ConcurrentDoublyEndedQueue<Integer> mtDeq;
+    private ConcurrentDoublyEndedQueue<Integer> deq1;
+
+    /**
+     * setup method before each test
+     */
+    @BeforeEach
+    public void setUp(){
+        this.mtDeq = new ConcurrentDoublyEndedQueue<>();
+        this.deq1 = new ConcurrentDoublyEndedQueue<>(List.of(1, 2, 3));
+    }
+
+    /**
+     * verify the DEQ holds exactly the given elements in both directions
+     *
+     * @param deq      DEQ to test on
+     * @param elements expected order of elements
+     */
+    private void verify(ConcurrentDoublyEndedQueue<Integer> deq, List<Integer> elements){
+        assertEquals(deq.size(), elements.size());
+        assertEquals(deq.isEmpty(), elements.isEmpty());
+        List<Integer> forward = new ArrayList<>();
+        deq.forEach(forward::add);
+        assertEquals(forward, elements);
+        List<Integer> backward = new ArrayList<>();
+        deq.reverseIterator().forEachRemaining(e -> backward.add(0, e));
+        assertEquals(backward, elements);
+    }
+
+    /**
+     * run the task on the given number of threads started together, rethrowing the first failure
+     *
+     * @param threads number of threads
+     * @param task    task receiving the thread index
+     * @throws InterruptedException if interrupted while joining
+     */
+    private static void runConcurrently(int threads, ThreadTask task) throws InterruptedException{
+        CyclicBarrier start = new CyclicBarrier(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+        for(int i = 0; i < threads; i++){
+            int id = i;
+            Thread worker = new Thread(() -> {
+                try{
+                    start.await();
+                    task.run(id);
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for(Thread worker : workers){
+            worker.join();
+        }
+        if(failure.get() != null){
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    /**
+     * represents a task run by each thread of a stress test
+     */
+    private interface ThreadTask{
+        void run(int id) throws Exception;
+    }
+
+    /**
+     * testing insert, peek and remove on a single thread
+     */
+    @Test
+    public void testSequential(){
+        this.verify(this.mtDeq, List.of());
+        this.verify(this.deq1, List.of(1, 2, 3));
+        this.deq1.insertFirst(0);
+        this.deq1.insertLast(4);
+        this.verify(this.deq1, List.of(0, 1, 2, 3, 4));
+        assertEquals(this.deq1.peekFirst(), 0);
+        assertEquals(this.deq1.peekLast(), 4);
+        assertEquals(this.deq1.removeFirst(), 0);
+        assertEquals(this.deq1.removeLast(), 4);
+        this.verify(this.deq1, List.of(1, 2, 3));
+        assertTrue(this.deq1.contains(2));
+        assertTrue(this.deq1.remove(2));
+        assertFalse(this.deq1.remove(2));
+        assertFalse(this.deq1.contains(2));
+        this.verify(this.deq1, List.of(1, 3));
+        assertEquals(this.deq1.toString(), "1, 3");
+        this.deq1.clear();
+        this.verify(this.deq1, List.of());
+        assertNull(this.mtDeq.pollFirst());
+        assertNull(this.mtDeq.pollLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.peekFirst();
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.peekLast();
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.removeFirst();
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.removeLast();
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.mtDeq.insertFirst(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.mtDeq.insertLast(null);
+        });
+    }
+
+    /**
+     * testing many inserts and removes from both ends against the sequential DEQ
+     */
+    @Test
+    public void testSequentialRandomOps(){
+        Random random = new Random(42);
+        DoublyEndedQueue<Integer> expected = new DoublyEndedQueue<>();
+        for(int i = 0; i < 100000; i++){
+            switch(random.nextInt(5)){
+                case 0 -> {
+                    this.mtDeq.insertFirst(i);
+                    expected.insertFirst(i);
+                }
+                case 1 -> {
+                    this.mtDeq.insertLast(i);
+                    expected.insertLast(i);
+                }
+                case 2 -> assertEquals(this.mtDeq.pollFirst(), expected.isEmpty() ? null : expected.removeFirst());
+                case 3 -> assertEquals(this.mtDeq.pollLast(), expected.isEmpty() ? null : expected.removeLast());
+                default -> {
+                    if(!expected.isEmpty()){
+                        Integer middle = expected.get(expected.size() / 2);
+                        assertTrue(this.mtDeq.remove(middle));
+                        expected.remove(middle);
+                    }
+                }
+            }
+        }
+        List<Integer> elements = new ArrayList<>();
+        expected.forEach(elements::add);
+        this.verify(this.mtDeq, elements);
+    }
+
+    /**
+     * testing producers inserting at the end and consumers removing from the start: every element is
+     * removed exactly once, and each consumer sees the elements of any one producer in insertion order
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testProducersConsumers() throws InterruptedException{
+        int perProducer = 100000;
+        int producers = THREADS / 2;
+        int total = perProducer * producers;
+        AtomicReferenceArray<Integer> seen = new AtomicReferenceArray<>(total);
+        AtomicInteger consumed = new AtomicInteger();
+        runConcurrently(THREADS, id -> {
+            if(id < producers){
+                for(int i = 0; i < perProducer; i++){
+                    this.mtDeq.insertLast(id * perProducer + i);
+                }
+            }else{
+                int[] lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+                while(consumed.get() < total){
+                    Integer e = this.mtDeq.pollFirst();
+                    if(e == null){
+                        continue;
+                    }
+                    consumed.incrementAndGet();
+                    assertTrue(seen.compareAndSet(e, null, id), "removed twice: " + e);
+                    int producer = e / perProducer;
+                    assertTrue(e % perProducer > lastSeen[producer], "out of order: " + e);
+                    lastSeen[producer] = e % perProducer;
+                }
+            }
+        });
+        for(int i = 0; i < total; i++){
+            assertNotNull(seen.get(i));
+        }
+        this.verify(this.mtDeq, List.of());
+    }
+
+    /**
+     * testing threads randomly inserting and removing at both ends: nothing is lost or duplicated
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testRandomOpsBothEnds() throws InterruptedException{
+        int perThread = 200000;
+        AtomicReferenceArray<Boolean> removed = new AtomicReferenceArray<>(perThread * THREADS);
+        AtomicInteger inserted = new AtomicInteger();
+        runConcurrently(THREADS, id -> {
+            Random random = new Random(id);
+            int next = id * perThread;
+            for(int i = 0; i < perThread; i++){
+                Integer e = switch(random.nextInt(4)){
+                    case 0 -> {
+                        this.mtDeq.insertFirst(next++);
+                        yield null;
+                    }
+                    case 1 -> {
+                        this.mtDeq.insertLast(next++);
+                        yield null;
+                    }
+                    case 2 -> this.mtDeq.pollFirst();
+                    default -> this.mtDeq.pollLast();
+                };
+                if(e != null){
+                    assertTrue(removed.compareAndSet(e, null, true), "removed twice: " + e);
+                }
+            }
+            inserted.addAndGet(next - id * perThread);
+        });
+        int remaining = 0;
+        for(Integer e : this.mtDeq){
+            assertNull(removed.get(e), "removed element still present: " + e);
+            remaining++;
+        }
+        int removedCount = 0;
+        for(int i = 0; i < removed.length(); i++){
+            if(removed.get(i) != null){
+                removedCount++;
+            }
+        }
+        assertEquals(remaining + removedCount, inserted.get());
+        assertEquals(this.mtDeq.size(), remaining);
+    }
+
+    /**
+     * jcstress style races on a tiny DEQ, repeated many times: two threads act at the same moment and the
+     * outcome must match one of the sequential orders of their calls
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testLinearizableRaces() throws InterruptedException{
+        int trials = 20000;
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<ConcurrentDoublyEndedQueue<Integer>> deqs = new ArrayList<>();
+        for(int i = 0; i < trials; i++){
+            deqs.add(new ConcurrentDoublyEndedQueue<>(List.of(1)));
+        }
+        Integer[][] polled = new Integer[2][trials];
+        runConcurrently(2, id -> {
+            for(int i = 0; i < trials; i++){
+                barrier.await();
+                ConcurrentDoublyEndedQueue<Integer> deq = deqs.get(i);
+                // trial 1: racing pollFirst and pollLast on a single element
+                polled[id][i] = id == 0 ? deq.pollFirst() : deq.pollLast();
+                barrier.await();
+                // trial 2: racing insertFirst and insertLast on the now empty DEQ
+                if(id == 0){
+                    deq.insertFirst(2);
+                }else{
+                    deq.insertLast(3);
+                }
+            }
+        });
+        for(int i = 0; i < trials; i++){
+            assertTrue(polled[0][i] == null ^ polled[1][i] == null, "element removed by both or neither");
+            this.verify(deqs.get(i), List.of(2, 3));
+        }
+    }
+
+    /**
+     * testing the iterator stays weakly consistent while other threads modify the DEQ: elements that are
+     * never removed are returned exactly once and in order
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testWeaklyConsistentIterator() throws InterruptedException{
+        int stable = 1000;
+        for(int i = 0; i < stable; i++){
+            this.mtDeq.insertLast(i * 2);
+        }
+        AtomicInteger done = new AtomicInteger();
+        runConcurrently(THREADS, id -> {
+            if(id == 0){
+                for(int round = 0; round < 200; round++){
+                    int expected = 0;
+                    Iterator<Integer> iter = round % 2 == 0 ? this.mtDeq.iterator() : this.mtDeq.reverseIterator();
+                    List<Integer> evens = new ArrayList<>();
+                    while(iter.hasNext()){
+                        Integer e = iter.next();
+                        if(e % 2 == 0){
+                            evens.add(e);
+                        }
+                    }
+                    if(round % 2 == 1){
+                        Collections.reverse(evens);
+                    }
+                    for(Integer e : evens){
+                        assertEquals(e, expected);
+                        expected += 2;
+                    }
+                    assertEquals(expected, stable * 2);
+                }
+                done.set(1);
+            }else{
+                int odd = 1;
+                while(done.get() == 0){
+                    this.mtDeq.insertFirst(-odd);
+                    this.mtDeq.insertLast(odd);
+                    assertTrue(this.mtDeq.remove(-odd));
+                    assertTrue(this.mtDeq.remove(odd));
+                    odd += 2;
+                }
+            }
+        });
+        assertEquals(this.mtDeq.size(), stable);
+    }
+}
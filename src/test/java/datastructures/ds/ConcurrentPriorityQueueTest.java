@@ -0,0 +1,195 @@
+package datastructures.ds;
+
+import datastructures.algo.Sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * represents a testing class for the concurrent priority queue. pop is relaxed with several heaps, so the
+ * tests check that no element is lost or duplicated rather than the exact order, except with a single heap
+ */
+public class ConcurrentPriorityQueueTest{
+
+    private static final int THREADS = 4;
+
+    /**
+     * run the task on the given number of threads started together, rethrowing the first failure
+     *
+     * @param threads number of threads
+     * @param task    task receiving the thread index
+     */
+    private static void runConcurrently(int threads, ThreadTask task) throws InterruptedException{
+        CyclicBarrier start = new CyclicBarrier(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>();
+        for(int i = 0; i < threads; i++){
+            int id = i;
+            Thread worker = new Thread(() -> {
+                try{
+                    start.await();
+                    task.run(id);
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for(Thread worker : workers){
+            worker.join();
+        }
+        if(failure.get() != null){
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    /**
+     * represents a task run by each thread of a stress test
+     */
+    private interface ThreadTask{
+        void run(int id) throws Exception;
+    }
+
+    @Test
+    public void testSequential(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConcurrentPriorityQueue<Integer>(false, 0);
+        });
+        ConcurrentPriorityQueue<Integer> pq = new ConcurrentPriorityQueue<>(false, 8);
+        assertTrue(pq.isEmpty());
+        assertNull(pq.poll());
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            pq.peek();
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            pq.pop();
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            pq.insert(null);
+        });
+        Random rand = new Random(12345);
+        List<Integer> expected = new ArrayList<>();
+        for(int i = 0; i < 1000; i++){
+            int value = rand.nextInt(500);
+            pq.insert(value);
+            expected.add(value);
+        }
+        assertEquals(pq.size(), 1000);
+        assertEquals(pq.peek(), Collections.min(expected));
+        List<Integer> popped = new ArrayList<>();
+        while(!pq.isEmpty()){
+            popped.add(pq.pop());
+        }
+        assertEquals(pq.size(), 0);
+        Collections.sort(expected);
+        Collections.sort(popped);
+        assertEquals(popped, expected);
+    }
+
+    @Test
+    public void testSingleHeapIsStrict(){
+        ConcurrentPriorityQueue<Integer> maxPQ = new ConcurrentPriorityQueue<>(true, 1);
+        Random rand = new Random(12345);
+        for(int i = 0; i < 1000; i++){
+            maxPQ.insert(rand.nextInt(500));
+        }
+        ArrayList<Integer> popped = new ArrayList<>();
+        while(!maxPQ.isEmpty()){
+            assertEquals(maxPQ.peek(), maxPQ.peek());
+            popped.add(maxPQ.pop());
+        }
+        Collections.reverse(popped);
+        assertTrue(Sort.isSorted(popped));
+    }
+
+    @Test
+    public void testSingleHeapConcurrentInsert() throws InterruptedException{
+        // with one heap contending inserters block on its lock instead of retrying other heaps
+        int perThread = 20000;
+        ConcurrentPriorityQueue<Integer> pq = new ConcurrentPriorityQueue<>(false, 1);
+        runConcurrently(THREADS, id -> {
+            for(int i = 0; i < perThread; i++){
+                pq.insert(id * perThread + i);
+            }
+        });
+        assertEquals(pq.size(), THREADS * perThread);
+        for(int i = 0; i < THREADS * perThread; i++){
+            assertEquals(pq.pop(), i);
+        }
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentInsertAndPop() throws InterruptedException{
+        int perThread = 50000;
+        for(int round = 0; round < 5; round++){
+            ConcurrentPriorityQueue<Integer> pq = new ConcurrentPriorityQueue<>(false, 2 * THREADS);
+            AtomicIntegerArray seen = new AtomicIntegerArray(THREADS * perThread);
+            // half the threads produce while the others consume, then everyone drains what is left
+            runConcurrently(THREADS, id -> {
+                if(id % 2 == 0){
+                    for(int i = 0; i < perThread; i++){
+                        pq.insert(id * perThread + i);
+                    }
+                    for(int i = 0; i < perThread; i++){
+                        pq.insert((id + 1) * perThread + i);
+                    }
+                }else{
+                    for(int i = 0; i < perThread; i++){
+                        Integer value = pq.poll();
+                        if(value != null){
+                            assertEquals(seen.getAndIncrement(value), 0);
+                        }
+                    }
+                }
+            });
+            Integer value;
+            while((value = pq.poll()) != null){
+                assertEquals(seen.getAndIncrement(value), 0);
+            }
+            assertTrue(pq.isEmpty());
+            assertEquals(pq.size(), 0);
+            for(int i = 0; i < seen.length(); i++){
+                assertEquals(seen.get(i), 1);
+            }
+        }
+    }
+
+    @Test
+    public void testRelaxation(){
+        // with a single thread the popped element should stay close to the true top
+        int heaps = 8;
+        ConcurrentPriorityQueue<Integer> pq = new ConcurrentPriorityQueue<>(false, heaps);
+        java.util.PriorityQueue<Integer> reference = new java.util.PriorityQueue<>();
+        Random rand = new Random(12345);
+        for(int i = 0; i < 10000; i++){
+            int value = rand.nextInt();
+            pq.insert(value);
+            reference.add(value);
+        }
+        long rankSum = 0;
+        int pops = 5000;
+        for(int i = 0; i < pops; i++){
+            Integer value = pq.pop();
+            int rank = 0;
+            for(Integer other : reference){
+                if(other < value){
+                    rank++;
+                }
+            }
+            rankSum += rank;
+            reference.remove(value);
+        }
+        assertTrue(rankSum / pops < 4 * heaps);
+    }
+}
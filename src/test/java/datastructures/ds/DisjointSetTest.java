@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -132,4 +134,127 @@ public class DisjointSetTest{
         assertEquals(this.emptyDs.getNumberOfComponents(), 0);
         assertEquals(this.ds1.getNumberOfComponents(), 4);
     }
+
+    @Test
+    public void testLargeSet(){
+        int size = 1000000;
+        DisjointSet ds = new DisjointSet(size);
+        // pair up neighbours, then pairs of pairs, and so on, which builds the tallest trees union by size allows
+        for(int step = 1; step < size; step *= 2){
+            for(int i = 0; i + step < size; i += 2 * step){
+                ds.union(i, i + step);
+            }
+        }
+        assertEquals(ds.getNumberOfComponents(), 1);
+        assertEquals(ds.getSetSize(size - 1), size);
+        int root = ds.find(0);
+        for(int i = 0; i < size; i++){
+            assertEquals(ds.find(i), root);
+        }
+    }
+
+    @Test
+    public void testMakeSet(){
+        assertEquals(this.emptyDs.makeSet(), 0);
+        assertEquals(this.emptyDs.makeSet(), 1);
+        this.emptyDs.union(0, 1);
+        assertTrue(this.emptyDs.isConnected(0, 1));
+        for(int i = 2; i < 1000; i++){
+            assertEquals(this.emptyDs.makeSet(), i);
+            this.emptyDs.union(i - 1, i);
+        }
+        assertEquals(this.emptyDs.getSize(), 1000);
+        assertEquals(this.emptyDs.getSetSize(999), 1000);
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.emptyDs.find(1000);
+        });
+        assertEquals(this.ds1.makeSet(), 10);
+        assertEquals(this.ds1.getNumberOfComponents(), 5);
+        this.ds1.union(10, 0);
+        assertEquals(this.ds1.getSetSize(0), 2);
+    }
+
+    @Test
+    public void testUnionAll(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.unionAll(new int[]{1, 2}, new int[]{3});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.unionAll(new int[]{0, 10}, new int[]{9, 1});
+        });
+        // a bad pair anywhere leaves the set unchanged
+        assertFalse(this.ds1.isConnected(0, 9));
+        assertEquals(this.ds1.unionAll(new int[]{0, 1, 9}, new int[]{9, 2, 5}), 2);
+        assertTrue(this.ds1.isConnected(0, 9));
+        assertTrue(this.ds1.isConnected(0, 5));
+        assertEquals(this.ds1.getNumberOfComponents(), 2);
+
+        int size = 10000;
+        Random rand = new Random(12345);
+        int[] ps = new int[size];
+        int[] qs = new int[size];
+        DisjointSet ds = new DisjointSet(size);
+        for(int i = 0; i < size; i++){
+            ps[i] = rand.nextInt(size);
+            qs[i] = rand.nextInt(size);
+            ds.union(ps[i], qs[i]);
+        }
+        DisjointSet bulk = new DisjointSet(size);
+        assertEquals(bulk.unionAll(ps, qs), size - ds.getNumberOfComponents());
+        for(int i = 0; i < size; i++){
+            assertEquals(bulk.getSetSize(i), ds.getSetSize(i));
+            assertEquals(bulk.isConnected(i, ps[size - 1 - i]), ds.isConnected(i, ps[size - 1 - i]));
+        }
+    }
+
+    @Test
+    public void testComponents(){
+        assertEquals(this.emptyDs.components().size(), 0);
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.members(10);
+        });
+        assertArrayEquals(this.ds1.members(0), new int[]{0});
+        int[] members = this.ds1.members(2);
+        assertEquals(members[0], 2);
+        Arrays.sort(members);
+        assertArrayEquals(members, new int[]{1, 2, 3, 4});
+        ArrayList<int[]> components = this.ds1.components();
+        assertEquals(components.size(), 4);
+        List<Integer> heads = new ArrayList<>();
+        for(int[] component : components){
+            heads.add(component[0]);
+            Arrays.sort(component);
+        }
+        assertEquals(heads, List.of(0, 3, 7, 9));
+        assertArrayEquals(components.get(2), new int[]{5, 6, 7, 8});
+        this.ds1.union(0, 9);
+        this.ds1.union(0, 9);
+        assertEquals(this.ds1.getNumberOfComponents(), 3);
+        this.ds1.makeSet();
+        assertEquals(this.ds1.getNumberOfComponents(), 4);
+
+        int size = 10000;
+        Random rand = new Random(12345);
+        DisjointSet ds = new DisjointSet(size);
+        for(int i = 0; i < size / 2; i++){
+            ds.union(rand.nextInt(size), rand.nextInt(size));
+            if(i % 100 == 0){
+                int count = 0;
+                for(int j = 0; j < size; j++){
+                    if(ds.find(j) == j){
+                        count++;
+                    }
+                }
+                assertEquals(ds.getNumberOfComponents(), count);
+            }
+        }
+        int total = 0;
+        for(int[] component : ds.components()){
+            total += component.length;
+            for(int node : component){
+                assertEquals(ds.find(node), component[0]);
+            }
+        }
+        assertEquals(total, size);
+    }
 }
@@ -3,8 +3,11 @@ package datastructures.ds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -257,6 +260,164 @@ public class DoublyEndedQueueTest{
         this.verify(deq, List.of(3, 2));
     }
 
+    /**
+     * testing indexed get and set from both ends
+     */
+    @Test
+    public void testGetAndSet(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.get(0);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.deq1.get(-1);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.deq1.set(3, 0);
+        });
+        for(int i = 0; i < 3; i++){
+            assertEquals(this.deq1.get(i), i + 1);
+        }
+        DoublyEndedQueue<Integer> deq = new DoublyEndedQueue<>(List.of(0, 1, 2, 3, 4, 5, 6));
+        for(int i = 0; i < 7; i++){
+            assertEquals(deq.set(i, i * 10), i);
+        }
+        this.verify(deq, List.of(0, 10, 20, 30, 40, 50, 60));
+    }
+
+    /**
+     * testing remove by index from both ends
+     */
+    @Test
+    public void testRemoveAt(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.removeAt(0);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.deq1.removeAt(3);
+        });
+        DoublyEndedQueue<Integer> deq = new DoublyEndedQueue<>(List.of(0, 1, 2, 3, 4, 5, 6));
+        assertEquals(deq.removeAt(5), 5);
+        this.verify(deq, List.of(0, 1, 2, 3, 4, 6));
+        assertEquals(deq.removeAt(1), 1);
+        this.verify(deq, List.of(0, 2, 3, 4, 6));
+        assertEquals(deq.removeAt(0), 0);
+        this.verify(deq, List.of(2, 3, 4, 6));
+        assertEquals(deq.removeAt(3), 6);
+        this.verify(deq, List.of(2, 3, 4));
+        assertEquals(this.deq1.removeAt(1), 2);
+        assertEquals(this.deq1.removeAt(0), 1);
+        assertEquals(this.deq1.removeAt(0), 3);
+        assertTrue(this.deq1.isEmpty());
+        assertNull(this.deq1.head);
+    }
+
+    /**
+     * testing bulk insert at both ends
+     */
+    @Test
+    public void testInsertAll(){
+        this.mtDeq.insertAllFirst(List.of());
+        this.mtDeq.insertAllLast(List.of());
+        this.verify(this.mtDeq, List.of());
+        this.mtDeq.insertAllFirst(List.of(1, 2));
+        this.verify(this.mtDeq, List.of(1, 2));
+        this.mtDeq.insertAllLast(List.of(3));
+        this.verify(this.mtDeq, List.of(1, 2, 3));
+        this.deq1.insertAllFirst(List.of(-1, 0));
+        this.verify(this.deq1, List.of(-1, 0, 1, 2, 3));
+        this.deq1.insertAllLast(List.of(4, 5, 6));
+        this.verify(this.deq1, List.of(-1, 0, 1, 2, 3, 4, 5, 6));
+        this.setUp();
+        this.mtDeq.insertAllLast(List.of(7));
+        this.verify(this.mtDeq, List.of(7));
+    }
+
+    /**
+     * testing splice and concat move every node and empty the other DEQ
+     */
+    @Test
+    public void testSpliceAndConcat(){
+        DoublyEndedQueue<Integer> other = new DoublyEndedQueue<>(List.of(4, 5));
+        this.deq1.concat(other);
+        this.verify(this.deq1, List.of(1, 2, 3, 4, 5));
+        this.verify(other, List.of());
+        this.deq1.concat(other);
+        this.verify(this.deq1, List.of(1, 2, 3, 4, 5));
+        this.mtDeq.concat(this.deq1);
+        this.verify(this.mtDeq, List.of(1, 2, 3, 4, 5));
+        this.verify(this.deq1, List.of());
+        this.mtDeq.splice(0, new DoublyEndedQueue<>(List.of(-1, 0)));
+        this.verify(this.mtDeq, List.of(-1, 0, 1, 2, 3, 4, 5));
+        this.mtDeq.splice(3, new DoublyEndedQueue<>(List.of(10)));
+        this.verify(this.mtDeq, List.of(-1, 0, 1, 10, 2, 3, 4, 5));
+        this.mtDeq.splice(6, new DoublyEndedQueue<>(List.of(20, 21)));
+        this.verify(this.mtDeq, List.of(-1, 0, 1, 10, 2, 3, 20, 21, 4, 5));
+        this.mtDeq.splice(10, new DoublyEndedQueue<>(List.of(30)));
+        this.verify(this.mtDeq, List.of(-1, 0, 1, 10, 2, 3, 20, 21, 4, 5, 30));
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.mtDeq.concat(this.mtDeq);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.mtDeq.splice(-1, new DoublyEndedQueue<>());
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.mtDeq.splice(12, new DoublyEndedQueue<>());
+        });
+    }
+
+    /**
+     * testing drainTo removes from the start up to max elements
+     */
+    @Test
+    public void testDrainTo(){
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(this.mtDeq.drainTo(drained, 5), 0);
+        assertEquals(this.deq1.drainTo(drained, 0), 0);
+        assertEquals(this.deq1.drainTo(drained, 2), 2);
+        assertEquals(drained, List.of(1, 2));
+        this.verify(this.deq1, List.of(3));
+        assertEquals(this.deq1.drainTo(drained, 5), 1);
+        assertEquals(drained, List.of(1, 2, 3));
+        this.verify(this.deq1, List.of());
+        this.setUp();
+        drained.clear();
+        assertEquals(this.deq1.drainTo(drained), 3);
+        assertEquals(drained, List.of(1, 2, 3));
+        assertNull(this.deq1.head);
+    }
+
+    /**
+     * testing spliterator splits into exact halves and feeds sequential and parallel streams in order
+     */
+    @Test
+    public void testSpliterator(){
+        assertEquals(this.mtDeq.stream().count(), 0);
+        Spliterator<Integer> spliterator = this.deq1.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(spliterator.getExactSizeIfKnown(), 3);
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(prefix.estimateSize(), 1);
+        assertEquals(spliterator.estimateSize(), 2);
+        List<Integer> res = new ArrayList<>();
+        prefix.forEachRemaining(res::add);
+        assertTrue(spliterator.tryAdvance(res::add));
+        assertNull(prefix.trySplit());
+        spliterator.forEachRemaining(res::add);
+        assertFalse(spliterator.tryAdvance(res::add));
+        assertEquals(res, List.of(1, 2, 3));
+
+        List<Integer> elements = new ArrayList<>();
+        for(int i = 0; i < 100000; i++){
+            elements.add(i);
+        }
+        DoublyEndedQueue<Integer> deq = new DoublyEndedQueue<>(elements);
+        assertEquals(deq.stream().collect(Collectors.toList()), elements);
+        assertEquals(deq.parallelStream().collect(Collectors.toList()), elements);
+        assertEquals(deq.parallelStream().mapToLong(Integer::longValue).sum(), 99999L * 100000 / 2);
+    }
+
     /**
      * testing clear
      */
@@ -0,0 +1,210 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexPriorityQueueTest{
+    private IndexPriorityQueue<Integer> minPQ;
+    private IndexPriorityQueue<Integer> maxPQ;
+
+    @BeforeEach
+    public void setUp(){
+        this.minPQ = new IndexPriorityQueue<>(false, 10);
+        this.maxPQ = new IndexPriorityQueue<>(true, 10);
+        int[] keys = {50, 60, 30, 70, 40, 20};
+        for(int i = 0; i < keys.length; i++){
+            this.minPQ.insert(i, keys[i]);
+            this.maxPQ.insert(i, keys[i]);
+        }
+    }
+
+    /**
+     * verify the top handle holds the top key and no other handle has a key closer to the top
+     *
+     * @param pq        priority queue to verify
+     * @param isMaxHeap the type of heap of pq
+     */
+    private static void verify(IndexPriorityQueue<Integer> pq, boolean isMaxHeap){
+        int count = 0;
+        for(int handle = 0; handle < 10; handle++){
+            if(pq.contains(handle)){
+                count++;
+                int cmp = pq.peek().compareTo(pq.keyOf(handle));
+                assertTrue(isMaxHeap ? cmp >= 0 : cmp <= 0);
+            }
+        }
+        assertEquals(count, pq.size());
+        if(!pq.isEmpty()){
+            assertEquals(pq.keyOf(pq.peekHandle()), pq.peek());
+        }
+    }
+
+    @Test
+    public void testInsertAndPop(){
+        assertEquals(this.minPQ.size(), 6);
+        assertEquals(this.minPQ.peek(), 20);
+        assertEquals(this.minPQ.peekHandle(), 5);
+        assertEquals(this.maxPQ.peekHandle(), 3);
+        int[] order = {5, 2, 4, 0, 1, 3};
+        for(int handle : order){
+            assertTrue(this.minPQ.contains(handle));
+            assertEquals(this.minPQ.popHandle(), handle);
+            assertFalse(this.minPQ.contains(handle));
+            verify(this.minPQ, false);
+        }
+        assertTrue(this.minPQ.isEmpty());
+        assertEquals(this.maxPQ.pop(), 70);
+        assertEquals(this.maxPQ.pop(), 60);
+        verify(this.maxPQ, true);
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.minPQ.popHandle();
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.maxPQ.insert(0, 1);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.maxPQ.insert(10, 1);
+        });
+    }
+
+    @Test
+    public void testInsertAll(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.insertAll(new int[]{6, 7}, new Integer[]{1});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.insertAll(new int[]{6, 0}, new Integer[]{1, 2});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.insertAll(new int[]{6, 6}, new Integer[]{1, 2});
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.minPQ.insertAll(new int[]{6, 10}, new Integer[]{1, 2});
+        });
+        // a rejected batch leaves the queue unchanged
+        assertFalse(this.minPQ.contains(6));
+        assertEquals(this.minPQ.size(), 6);
+        // small batch, shifted up one by one
+        this.minPQ.insertAll(new int[]{6}, new Integer[]{10});
+        assertEquals(this.minPQ.peekHandle(), 6);
+        verify(this.minPQ, false);
+        // batch that outgrows the queue, rebuilt
+        IndexPriorityQueue<Integer> pq = new IndexPriorityQueue<>(true, 10);
+        pq.insertAll(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, new Integer[]{50, 60, 30, 70, 40, 20, 65, 5, 90, 35});
+        assertEquals(pq.size(), 10);
+        verify(pq, true);
+        int[] order = {8, 3, 6, 1, 0, 4, 9, 2, 5, 7};
+        for(int handle : order){
+            assertEquals(pq.popHandle(), handle);
+        }
+        // batch much smaller than the queue, shifted up
+        this.maxPQ.insertAll(new int[]{6, 7}, new Integer[]{65, 5});
+        assertEquals(this.maxPQ.popHandle(), 3);
+        assertEquals(this.maxPQ.popHandle(), 6);
+        verify(this.maxPQ, true);
+    }
+
+    @Test
+    public void testChangeKey(){
+        this.minPQ.decreaseKey(3, 10);
+        assertEquals(this.minPQ.peekHandle(), 3);
+        assertEquals(this.minPQ.keyOf(3), 10);
+        this.minPQ.increaseKey(3, 100);
+        assertEquals(this.minPQ.peekHandle(), 5);
+        verify(this.minPQ, false);
+        this.maxPQ.increaseKey(5, 80);
+        assertEquals(this.maxPQ.peekHandle(), 5);
+        this.maxPQ.decreaseKey(5, 0);
+        assertEquals(this.maxPQ.peekHandle(), 3);
+        verify(this.maxPQ, true);
+        this.minPQ.update(0, 5);
+        assertEquals(this.minPQ.peekHandle(), 0);
+        this.minPQ.update(0, 55);
+        assertEquals(this.minPQ.peekHandle(), 5);
+        verify(this.minPQ, false);
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.decreaseKey(1, 61);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.increaseKey(1, 59);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.keyOf(9);
+        });
+        assertEquals(this.maxPQ.replaceTop(1), 70);
+        assertEquals(this.maxPQ.keyOf(3), 1);
+        assertEquals(this.maxPQ.peekHandle(), 1);
+        verify(this.maxPQ, true);
+        IndexPriorityQueue<Integer> empty = new IndexPriorityQueue<>(false, 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            empty.replaceTop(1);
+        });
+    }
+
+    @Test
+    public void testRemove(){
+        assertEquals(this.minPQ.remove(2), 30);
+        assertFalse(this.minPQ.contains(2));
+        verify(this.minPQ, false);
+        assertEquals(this.minPQ.remove(5), 20);
+        assertEquals(this.minPQ.peekHandle(), 4);
+        assertEquals(this.minPQ.remove(3), 70);
+        verify(this.minPQ, false);
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ.remove(3);
+        });
+        this.minPQ.insert(3, 1);
+        assertEquals(this.minPQ.peekHandle(), 3);
+        this.minPQ.clear();
+        assertTrue(this.minPQ.isEmpty());
+        assertFalse(this.minPQ.contains(3));
+        this.minPQ.insert(3, 1);
+        assertEquals(this.minPQ.popHandle(), 3);
+    }
+
+    @Test
+    public void testRandomOperations(){
+        int n = 200;
+        Random random = new Random(12345);
+        IndexPriorityQueue<Integer> pq = new IndexPriorityQueue<>(false, n);
+        Integer[] keys = new Integer[n];
+        for(int step = 0; step < 20000; step++){
+            int handle = random.nextInt(n);
+            int key = random.nextInt(1000);
+            if(keys[handle] == null){
+                pq.insert(handle, key);
+                keys[handle] = key;
+            }else if(random.nextBoolean()){
+                pq.update(handle, key);
+                keys[handle] = key;
+            }else{
+                assertEquals(pq.remove(handle), keys[handle]);
+                keys[handle] = null;
+            }
+            if(step % 7 == 0 && !pq.isEmpty()){
+                int min = Integer.MAX_VALUE;
+                for(Integer k : keys){
+                    if(k != null){
+                        min = Math.min(min, k);
+                    }
+                }
+                int top = pq.popHandle();
+                assertEquals(keys[top], min);
+                keys[top] = null;
+            }
+        }
+        for(int handle = 0; handle < n; handle++){
+            assertEquals(pq.contains(handle), keys[handle] != null);
+            if(keys[handle] != null){
+                assertEquals(pq.keyOf(handle), keys[handle]);
+            }
+        }
+    }
+}
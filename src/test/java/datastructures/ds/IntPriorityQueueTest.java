@@ -0,0 +1,122 @@
+package datastructures.ds;
+
+import datastructures.algo.Sort;
+import datastructures.util.StopWatch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntPriorityQueueTest{
+    private IntPriorityQueue emptyPQ;
+    private IntPriorityQueue minPQ3;
+    private IntPriorityQueue minPQ5;
+    private IntPriorityQueue maxPQ;
+
+    @BeforeEach
+    public void setUp(){
+        this.emptyPQ = new IntPriorityQueue(false, 0);
+        this.minPQ3 = new IntPriorityQueue(false, new int[]{5, 6, 3});
+        this.minPQ5 = new IntPriorityQueue(false, new int[]{5, 6, 3, 7, 4, 2});
+        this.maxPQ = new IntPriorityQueue(true, new int[]{5, 6, 3, 7, 4, 2});
+    }
+
+    /**
+     * get the heap part of the backing array
+     *
+     * @param pq priority queue
+     * @return elements at index 1 to size
+     */
+    private static int[] heap(IntPriorityQueue pq){
+        return Arrays.copyOfRange(pq.data, 1, pq.size() + 1);
+    }
+
+    @Test
+    public void testConstructor(){
+        assertArrayEquals(heap(this.emptyPQ), new int[]{});
+        assertArrayEquals(heap(this.minPQ3), new int[]{3, 6, 5});
+        assertArrayEquals(heap(this.minPQ5), new int[]{2, 4, 3, 7, 6, 5});
+        assertArrayEquals(heap(this.maxPQ), new int[]{7, 6, 3, 5, 4, 2});
+        assertThrows(IllegalArgumentException.class, () -> {
+            new IntPriorityQueue(false, -1);
+        });
+    }
+
+    @Test
+    public void testSizeAndIsEmpty(){
+        assertEquals(this.emptyPQ.size(), 0);
+        assertEquals(this.minPQ5.size(), 6);
+        assertTrue(this.emptyPQ.isEmpty());
+        assertFalse(this.maxPQ.isEmpty());
+    }
+
+    @Test
+    public void testInsert(){
+        this.emptyPQ.insert(5);
+        assertArrayEquals(heap(this.emptyPQ), new int[]{5});
+        this.emptyPQ.insert(3);
+        assertArrayEquals(heap(this.emptyPQ), new int[]{3, 5});
+        this.emptyPQ.insert(4);
+        assertArrayEquals(heap(this.emptyPQ), new int[]{3, 5, 4});
+        this.emptyPQ.insert(2);
+        assertArrayEquals(heap(this.emptyPQ), new int[]{2, 3, 4, 5});
+        this.emptyPQ.insert(1);
+        assertArrayEquals(heap(this.emptyPQ), new int[]{1, 2, 4, 5, 3});
+        this.emptyPQ.insert(6);
+        assertArrayEquals(heap(this.emptyPQ), new int[]{1, 2, 4, 5, 3, 6});
+    }
+
+    @Test
+    public void testPeekAndPop(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.emptyPQ.peek();
+        });
+        assertEquals(this.minPQ3.peek(), 3);
+        assertEquals(this.maxPQ.peek(), 7);
+        assertEquals(this.minPQ5.pop(), 2);
+        assertArrayEquals(heap(this.minPQ5), new int[]{3, 4, 5, 7, 6});
+        assertEquals(this.minPQ5.pop(), 3);
+        assertArrayEquals(heap(this.minPQ5), new int[]{4, 6, 5, 7});
+        assertEquals(this.minPQ5.pop(), 4);
+        assertEquals(this.minPQ5.pop(), 5);
+        assertEquals(this.minPQ5.pop(), 6);
+        assertEquals(this.minPQ5.pop(), 7);
+        assertTrue(this.minPQ5.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.minPQ5.pop();
+        });
+        for(int expected : new int[]{7, 6, 5, 4, 3, 2}){
+            assertEquals(this.maxPQ.pop(), expected);
+        }
+    }
+
+    @Test
+    public void testEfficiency(){
+        System.out.println("[Int Priority Queue] test priority queue by inserting random integer "
+                + "100,000 times and taking everything out");
+        IntPriorityQueue pq = new IntPriorityQueue(false);
+        int[] verify = new int[100000];
+        Random rand = new Random(12345);
+        assertTimeout(Duration.ofMillis(10000), () -> {
+            StopWatch.shared.begin();
+            for(int i = 0; i < 100000; i++){
+                pq.insert(rand.nextInt(100000));
+            }
+            for(int i = 0; !pq.isEmpty(); i++){
+                verify[i] = pq.pop();
+            }
+            StopWatch.shared.end("Runtime:", 0.25);
+            assertTrue(Sort.isSorted(verify));
+        });
+    }
+}
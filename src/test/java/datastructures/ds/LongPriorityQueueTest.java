@@ -0,0 +1,122 @@
+package datastructures.ds;
+
+import datastructures.algo.Sort;
+import datastructures.util.StopWatch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongPriorityQueueTest{
+    private LongPriorityQueue emptyPQ;
+    private LongPriorityQueue minPQ3;
+    private LongPriorityQueue minPQ5;
+    private LongPriorityQueue maxPQ;
+
+    @BeforeEach
+    public void setUp(){
+        this.emptyPQ = new LongPriorityQueue(false, 0);
+        this.minPQ3 = new LongPriorityQueue(false, new long[]{5L, 6L, 3L});
+        this.minPQ5 = new LongPriorityQueue(false, new long[]{5L, 6L, 3L, 7L, 4L, 2L});
+        this.maxPQ = new LongPriorityQueue(true, new long[]{5L, 6L, 3L, 7L, 4L, 2L});
+    }
+
+    /**
+     * get the heap part of the backing array
+     *
+     * @param pq priority queue
+     * @return elements at index 1 to size
+     */
+    private static long[] heap(LongPriorityQueue pq){
+        return Arrays.copyOfRange(pq.data, 1, pq.size() + 1);
+    }
+
+    @Test
+    public void testConstructor(){
+        assertArrayEquals(heap(this.emptyPQ), new long[]{});
+        assertArrayEquals(heap(this.minPQ3), new long[]{3L, 6L, 5L});
+        assertArrayEquals(heap(this.minPQ5), new long[]{2L, 4L, 3L, 7L, 6L, 5L});
+        assertArrayEquals(heap(this.maxPQ), new long[]{7L, 6L, 3L, 5L, 4L, 2L});
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LongPriorityQueue(false, -1);
+        });
+    }
+
+    @Test
+    public void testSizeAndIsEmpty(){
+        assertEquals(this.emptyPQ.size(), 0);
+        assertEquals(this.minPQ5.size(), 6);
+        assertTrue(this.emptyPQ.isEmpty());
+        assertFalse(this.maxPQ.isEmpty());
+    }
+
+    @Test
+    public void testInsert(){
+        this.emptyPQ.insert(5);
+        assertArrayEquals(heap(this.emptyPQ), new long[]{5L});
+        this.emptyPQ.insert(3);
+        assertArrayEquals(heap(this.emptyPQ), new long[]{3L, 5L});
+        this.emptyPQ.insert(4);
+        assertArrayEquals(heap(this.emptyPQ), new long[]{3L, 5L, 4L});
+        this.emptyPQ.insert(2);
+        assertArrayEquals(heap(this.emptyPQ), new long[]{2L, 3L, 4L, 5L});
+        this.emptyPQ.insert(1);
+        assertArrayEquals(heap(this.emptyPQ), new long[]{1L, 2L, 4L, 5L, 3L});
+        this.emptyPQ.insert(6);
+        assertArrayEquals(heap(this.emptyPQ), new long[]{1L, 2L, 4L, 5L, 3L, 6L});
+    }
+
+    @Test
+    public void testPeekAndPop(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.emptyPQ.peek();
+        });
+        assertEquals(this.minPQ3.peek(), 3);
+        assertEquals(this.maxPQ.peek(), 7);
+        assertEquals(this.minPQ5.pop(), 2);
+        assertArrayEquals(heap(this.minPQ5), new long[]{3L, 4L, 5L, 7L, 6L});
+        assertEquals(this.minPQ5.pop(), 3);
+        assertArrayEquals(heap(this.minPQ5), new long[]{4L, 6L, 5L, 7L});
+        assertEquals(this.minPQ5.pop(), 4);
+        assertEquals(this.minPQ5.pop(), 5);
+        assertEquals(this.minPQ5.pop(), 6);
+        assertEquals(this.minPQ5.pop(), 7);
+        assertTrue(this.minPQ5.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.minPQ5.pop();
+        });
+        for(long expected : new long[]{7, 6, 5, 4, 3, 2}){
+            assertEquals(this.maxPQ.pop(), expected);
+        }
+    }
+
+    @Test
+    public void testEfficiency(){
+        System.out.println("[Long Priority Queue] test priority queue by inserting random integer "
+                + "100,000 times and taking everything out");
+        LongPriorityQueue pq = new LongPriorityQueue(false);
+        long[] verify = new long[100000];
+        Random rand = new Random(12345);
+        assertTimeout(Duration.ofMillis(10000), () -> {
+            StopWatch.shared.begin();
+            for(int i = 0; i < 100000; i++){
+                pq.insert(rand.nextLong());
+            }
+            for(int i = 0; !pq.isEmpty(); i++){
+                verify[i] = pq.pop();
+            }
+            StopWatch.shared.end("Runtime:", 0.25);
+            assertTrue(Sort.isSorted(verify));
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectDisjointSetTest{
+
+    private ObjectDisjointSet<String> ds;
+
+    @BeforeEach
+    public void setUp(){
+        this.ds = new ObjectDisjointSet<>();
+        this.ds.union("a", "b");
+        this.ds.union("c", "b");
+        this.ds.union("x", "y");
+        this.ds.add("z");
+    }
+
+    @Test
+    public void testAdd(){
+        assertEquals(this.ds.getSize(), 6);
+        assertTrue(this.ds.contains("a"));
+        assertFalse(this.ds.contains("d"));
+        assertEquals(this.ds.add("a"), 0);
+        assertEquals(this.ds.add("d"), 6);
+        assertEquals(this.ds.getSize(), 7);
+        assertEquals(this.ds.getSetSize("d"), 1);
+    }
+
+    @Test
+    public void testFindAndUnion(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds.find("d");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds.isConnected("a", "d");
+        });
+        assertEquals(this.ds.find("a"), "b");
+        assertEquals(this.ds.find("c"), "b");
+        assertEquals(this.ds.getSetSize("c"), 3);
+        assertTrue(this.ds.isConnected("a", "c"));
+        assertFalse(this.ds.isConnected("a", "x"));
+        assertEquals(this.ds.getNumberOfComponents(), 3);
+        this.ds.union("y", "a");
+        assertTrue(this.ds.isConnected("x", "c"));
+        assertEquals(this.ds.getSetSize("x"), 5);
+        assertEquals(this.ds.getNumberOfComponents(), 2);
+    }
+
+    @Test
+    public void testStream(){
+        ObjectDisjointSet<Integer> grid = new ObjectDisjointSet<>();
+        // vertices show up only as the edges arrive
+        for(int i = 0; i < 10000; i++){
+            grid.union(i, i + 1);
+            grid.union(-i, -i - 1);
+        }
+        assertEquals(grid.getSize(), 20001);
+        assertEquals(grid.getNumberOfComponents(), 1);
+        assertTrue(grid.isConnected(-10000, 10000));
+    }
+
+    @Test
+    public void testComponents(){
+        assertEquals(this.ds.members("z"), List.of("z"));
+        ArrayList<String> members = this.ds.members("a");
+        assertEquals(members.get(0), "a");
+        Collections.sort(members);
+        assertEquals(members, List.of("a", "b", "c"));
+        ArrayList<ArrayList<String>> components = this.ds.components();
+        assertEquals(components.size(), 3);
+        assertEquals(components.get(0).get(0), "b");
+        assertEquals(components.get(1).size(), 2);
+        assertEquals(components.get(2), List.of("z"));
+    }
+}
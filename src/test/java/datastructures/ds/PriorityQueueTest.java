@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -153,4 +154,106 @@ public class PriorityQueueTest{
             assertTrue(Sort.isSorted(verify));
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testArity(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new PriorityQueue<Integer>(false, 1);
+        });
+        PriorityQueue<Integer> pq4 = new PriorityQueue<>(false, 4, new ArrayList<Integer>(Arrays.asList(5, 6, 3, 7, 4, 2)));
+        assertEquals(pq4.data, new ArrayList<Integer>(Arrays.asList(null, 2, 5, 3, 7, 4, 6)));
+        pq4.insert(1);
+        assertEquals(pq4.data, new ArrayList<Integer>(Arrays.asList(null, 1, 2, 3, 7, 4, 6, 5)));
+        assertEquals(pq4.pop(), 1);
+        assertEquals(pq4.data, new ArrayList<Integer>(Arrays.asList(null, 2, 5, 3, 7, 4, 6)));
+
+        Random rand = new Random(12345);
+        for(int arity : new int[]{2, 3, 4, 8}){
+            for(boolean isMaxHeap : new boolean[]{false, true}){
+                ArrayList<Integer> arr = new ArrayList<>();
+                for(int i = 0; i < 1000; i++){
+                    arr.add(rand.nextInt(500));
+                }
+                PriorityQueue<Integer> pq = new PriorityQueue<>(isMaxHeap, arity, new ArrayList<>(arr.subList(0, 500)));
+                for(int i = 500; i < 1000; i++){
+                    pq.insert(arr.get(i));
+                }
+                ArrayList<Integer> verify = new ArrayList<>();
+                while(!pq.isEmpty()){
+                    verify.add(pq.pop());
+                }
+                if(isMaxHeap){
+                    Collections.reverse(verify);
+                }
+                assertEquals(verify.size(), 1000);
+                assertTrue(Sort.isSorted(verify));
+            }
+        }
+    }
+
+    @Test
+    public void testInsertAll(){
+        // small batch, shifted up one by one
+        this.minPQ5.insertAll(Arrays.asList(1));
+        assertEquals(this.minPQ5.data, new ArrayList<Integer>(Arrays.asList(null, 1, 4, 2, 7, 6, 5, 3)));
+        // large batch, rebuilt
+        this.minPQ3.insertAll(Arrays.asList(7, 4, 2));
+        assertEquals(this.minPQ3.data, new ArrayList<Integer>(Arrays.asList(null, 2, 4, 3, 7, 6, 5)));
+        this.emptyPQ.insertAll(new ArrayList<Integer>());
+        assertTrue(this.emptyPQ.isEmpty());
+
+        Random rand = new Random(12345);
+        for(int batch : new int[]{1, 10, 1000, 100000}){
+            for(int arity : new int[]{2, 4}){
+                PriorityQueue<Integer> pq = new PriorityQueue<>(false, arity);
+                ArrayList<Integer> arr = new ArrayList<>();
+                for(int i = 0; i < 1000; i++){
+                    pq.insert(rand.nextInt(1000));
+                }
+                for(int i = 0; i < batch; i++){
+                    arr.add(rand.nextInt(1000));
+                }
+                pq.insertAll(arr);
+                assertEquals(pq.size(), 1000 + batch);
+                ArrayList<Integer> verify = pq.popN(pq.size());
+                assertTrue(Sort.isSorted(verify));
+            }
+        }
+        BHeapPriorityQueue<Integer> bheap = new BHeapPriorityQueue<>(true, 8);
+        ArrayList<Integer> arr = new ArrayList<>();
+        for(int i = 0; i < 10000; i++){
+            arr.add(rand.nextInt(1000));
+        }
+        bheap.insertAll(arr);
+        ArrayList<Integer> verify = bheap.popN(10000);
+        Collections.reverse(verify);
+        assertTrue(Sort.isSorted(verify));
+    }
+
+    @Test
+    public void testPopN(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.minPQ5.popN(-1);
+        });
+        assertEquals(this.emptyPQ.popN(3), new ArrayList<Integer>());
+        assertEquals(this.minPQ5.popN(0), new ArrayList<Integer>());
+        assertEquals(this.minPQ5.popN(3), Arrays.asList(2, 3, 4));
+        assertEquals(this.minPQ5.data, Arrays.asList(null, 5, 6, 7));
+        assertEquals(this.minPQ5.popN(5), Arrays.asList(5, 6, 7));
+        assertTrue(this.minPQ5.isEmpty());
+        assertEquals(this.maxPQ.popN(2), Arrays.asList(7, 6));
+    }
+
+    @Test
+    public void testReplaceTop(){
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            this.emptyPQ.replaceTop(1);
+        });
+        assertEquals(this.minPQ5.replaceTop(8), 2);
+        assertEquals(this.minPQ5.data, Arrays.asList(null, 3, 4, 5, 7, 6, 8));
+        assertEquals(this.minPQ5.replaceTop(1), 3);
+        assertEquals(this.minPQ5.data, Arrays.asList(null, 1, 4, 5, 7, 6, 8));
+        assertEquals(this.maxPQ.replaceTop(0), 7);
+        assertEquals(this.maxPQ.peek(), 6);
+    }
+}
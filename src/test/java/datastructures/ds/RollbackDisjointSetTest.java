@@ -0,0 +1,120 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RollbackDisjointSetTest{
+
+    private RollbackDisjointSet ds1;
+
+    @BeforeEach
+    public void setUp(){
+        this.ds1 = new RollbackDisjointSet(10);
+        this.ds1.union(1, 3);
+        this.ds1.union(2, 3);
+        this.ds1.union(4, 3);
+        this.ds1.union(5, 7);
+        this.ds1.union(6, 7);
+        this.ds1.union(8, 6);
+    }
+
+    @Test
+    public void testUnionFind(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RollbackDisjointSet(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.find(10);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.union(-1, 2);
+        });
+        assertEquals(this.ds1.getSize(), 10);
+        List<Integer> expected = List.of(0, 3, 3, 3, 3, 7, 7, 7, 7, 9);
+        for(int i = 0; i < expected.size(); i++){
+            assertEquals(this.ds1.find(i), expected.get(i));
+        }
+        assertEquals(this.ds1.getSetSize(4), 4);
+        assertTrue(this.ds1.isConnected(8, 5));
+        assertFalse(this.ds1.isConnected(3, 7));
+        assertEquals(this.ds1.getNumberOfComponents(), 4);
+    }
+
+    @Test
+    public void testRollback(){
+        int token = this.ds1.snapshot();
+        this.ds1.union(2, 8);
+        this.ds1.union(0, 9);
+        int inner = this.ds1.snapshot();
+        this.ds1.union(0, 1);
+        assertEquals(this.ds1.getNumberOfComponents(), 1);
+        assertEquals(this.ds1.getSetSize(9), 10);
+        this.ds1.rollback(inner);
+        assertFalse(this.ds1.isConnected(0, 1));
+        assertTrue(this.ds1.isConnected(0, 9));
+        assertEquals(this.ds1.getSetSize(0), 2);
+        assertEquals(this.ds1.getNumberOfComponents(), 2);
+        this.ds1.rollback(token);
+        assertFalse(this.ds1.isConnected(3, 7));
+        assertEquals(this.ds1.getSetSize(3), 4);
+        assertEquals(this.ds1.getSetSize(8), 4);
+        assertEquals(this.ds1.getNumberOfComponents(), 4);
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.rollback(inner);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.ds1.rollback(-2);
+        });
+        this.ds1.rollback(0);
+        assertEquals(this.ds1.getNumberOfComponents(), 10);
+        for(int i = 0; i < 10; i++){
+            assertEquals(this.ds1.find(i), i);
+        }
+    }
+
+    @Test
+    public void testAgainstRebuild(){
+        int size = 2000;
+        Random rand = new Random(12345);
+        RollbackDisjointSet ds = new RollbackDisjointSet(size);
+        // edges in the order they were unioned, and the number of edges at each open snapshot
+        List<int[]> edges = new ArrayList<>();
+        List<Integer> tokens = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        for(int step = 0; step < 3000; step++){
+            int op = rand.nextInt(10);
+            if(op < 6){
+                int[] edge = {rand.nextInt(size), rand.nextInt(size)};
+                ds.union(edge[0], edge[1]);
+                edges.add(edge);
+            }else if(op < 8){
+                tokens.add(ds.snapshot());
+                counts.add(edges.size());
+            }else if(!tokens.isEmpty()){
+                int k = rand.nextInt(tokens.size());
+                ds.rollback(tokens.get(k));
+                edges.subList(counts.get(k), edges.size()).clear();
+                tokens.subList(k + 1, tokens.size()).clear();
+                counts.subList(k + 1, counts.size()).clear();
+            }
+            if(step % 50 == 0){
+                DisjointSet expected = new DisjointSet(size);
+                for(int[] edge : edges){
+                    expected.union(edge[0], edge[1]);
+                }
+                assertEquals(ds.getNumberOfComponents(), expected.getNumberOfComponents());
+                for(int i = 0; i < size; i++){
+                    assertEquals(ds.getSetSize(i), expected.getSetSize(i));
+                    int other = rand.nextInt(size);
+                    assertEquals(ds.isConnected(i, other), expected.isConnected(i, other));
+                }
+            }
+        }
+    }
+}
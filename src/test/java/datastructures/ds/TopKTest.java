@@ -0,0 +1,105 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopKTest{
+
+    @Test
+    public void testOffer(){
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TopK<Integer>(0);
+        });
+        TopK<Integer> top = new TopK<>(3);
+        assertTrue(top.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            top.threshold();
+        });
+        assertTrue(top.offer(5));
+        assertTrue(top.offer(1));
+        assertTrue(top.offer(3));
+        assertEquals(top.size(), 3);
+        assertEquals(top.threshold(), 1);
+        assertFalse(top.offer(0));
+        assertFalse(top.offer(1));
+        assertTrue(top.offer(4));
+        assertEquals(top.threshold(), 3);
+        assertEquals(top.snapshot(), Arrays.asList(5, 4, 3));
+        // snapshot leaves the tracker unchanged
+        assertEquals(top.snapshot(), Arrays.asList(5, 4, 3));
+        assertEquals(top.toString(), "[5, 4, 3]");
+        top.clear();
+        assertTrue(top.isEmpty());
+
+        TopK<Integer> bottom = new TopK<>(2, false);
+        for(int value : new int[]{5, 1, 3, 0, 4}){
+            bottom.offer(value);
+        }
+        assertEquals(bottom.snapshot(), Arrays.asList(0, 1));
+        assertEquals(bottom.k(), 2);
+    }
+
+    @Test
+    public void testStream(){
+        Random rand = new Random(12345);
+        List<Integer> stream = new ArrayList<>();
+        TopK<Integer> top = new TopK<>(100);
+        for(int i = 0; i < 100000; i++){
+            int value = rand.nextInt(1000000);
+            stream.add(value);
+            top.offer(value);
+        }
+        assertEquals(top.size(), 100);
+        stream.sort(Collections.reverseOrder());
+        assertEquals(top.snapshot(), stream.subList(0, 100));
+    }
+
+    @Test
+    public void testMerge() throws InterruptedException{
+        int threads = 4;
+        List<TopK<Integer>> parts = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for(int t = 0; t < threads; t++){
+            TopK<Integer> part = new TopK<>(10);
+            parts.add(part);
+            int seed = t;
+            workers.add(new Thread(() -> {
+                Random rand = new Random(seed);
+                for(int i = 0; i < 10000; i++){
+                    part.offer(rand.nextInt());
+                }
+            }));
+        }
+        for(Thread worker : workers){
+            worker.start();
+        }
+        for(Thread worker : workers){
+            worker.join();
+        }
+        List<Integer> expected = new ArrayList<>();
+        for(int t = 0; t < threads; t++){
+            Random rand = new Random(t);
+            for(int i = 0; i < 10000; i++){
+                expected.add(rand.nextInt());
+            }
+        }
+        expected.sort(Collections.reverseOrder());
+        TopK<Integer> merged = new TopK<>(10);
+        for(TopK<Integer> part : parts){
+            merged.merge(part);
+        }
+        merged.merge(merged);
+        assertEquals(merged.snapshot(), expected.subList(0, 10));
+        assertEquals(parts.get(0).size(), 10);
+    }
+}
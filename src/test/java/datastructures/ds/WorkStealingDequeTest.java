@@ -0,0 +1,108 @@
+package datastructures.ds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * represents a testing class for work-stealing deque
+ */
+public class WorkStealingDequeTest{
+
+    private WorkStealingDeque<Integer> deque;
+
+    /**
+     * setup method before each test
+     */
+    @BeforeEach
+    public void setUp(){
+        this.deque = new WorkStealingDeque<>(2);
+    }
+
+    /**
+     * testing owner pops newest first and thieves steal oldest first, across growth
+     */
+    @Test
+    public void testPushPopSteal(){
+        assertTrue(this.deque.isEmpty());
+        assertNull(this.deque.pop());
+        assertNull(this.deque.steal());
+        for(int i = 0; i < 100; i++){
+            this.deque.push(i);
+        }
+        assertEquals(this.deque.size(), 100);
+        assertEquals(this.deque.steal(), 0);
+        assertEquals(this.deque.steal(), 1);
+        assertEquals(this.deque.pop(), 99);
+        assertEquals(this.deque.pop(), 98);
+        assertEquals(this.deque.size(), 96);
+        for(int i = 2; i < 98; i++){
+            assertEquals(this.deque.steal(), i);
+        }
+        assertTrue(this.deque.isEmpty());
+        assertNull(this.deque.pop());
+        this.deque.push(7);
+        assertEquals(this.deque.pop(), 7);
+        assertNull(this.deque.steal());
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.deque.push(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new WorkStealingDeque<Integer>(-1);
+        });
+    }
+
+    /**
+     * testing the owner pushing and popping while thieves steal: every element is taken exactly once
+     *
+     * @throws InterruptedException if interrupted
+     */
+    @Test
+    public void testConcurrentSteal() throws InterruptedException{
+        int n = 500000;
+        AtomicIntegerArray taken = new AtomicIntegerArray(n);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> thieves = new ArrayList<>();
+        for(int i = 0; i < 3; i++){
+            Thread thief = new Thread(() -> {
+                try{
+                    while(!done.get() || !this.deque.isEmpty()){
+                        Integer e = this.deque.steal();
+                        if(e != null){
+                            assertEquals(taken.incrementAndGet(e), 1);
+                        }
+                    }
+                }catch(Throwable e){
+                    failure.compareAndSet(null, e);
+                }
+            });
+            thieves.add(thief);
+            thief.start();
+        }
+        for(int i = 0; i < n; i++){
+            this.deque.push(i);
+            if(i % 3 == 0){
+                Integer e = this.deque.pop();
+                if(e != null){
+                    assertEquals(taken.incrementAndGet(e), 1);
+                }
+            }
+        }
+        done.set(true);
+        for(Thread thief : thieves){
+            thief.join();
+        }
+        assertNull(failure.get());
+        for(int i = 0; i < n; i++){
+            assertEquals(taken.get(i), 1);
+        }
+    }
+}